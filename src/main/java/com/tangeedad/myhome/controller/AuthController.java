@@ -4,7 +4,10 @@ import com.tangeedad.myhome.dto.UserDto;
 import com.tangeedad.myhome.entity.User;
 import com.tangeedad.myhome.service.UserService;
 import com.tangeedad.myhome.util.JwtUtil;
+import com.tangeedad.myhome.util.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,26 +23,38 @@ public class AuthController {
 
     private final UserService userService; // 사용자 관련 비즈니스 로직 처리
     private final JwtUtil jwtUtil; // JWT 토큰 생성 및 검증 유틸리티
+    private final LoginRateLimiter loginRateLimiter; // 로그인 시도 횟수 제한
 
     /**
      * AuthController 생성자
      * @param userService UserService 객체를 주입받음
      * @param jwtUtil JwtUtil 객체를 주입받음
+     * @param loginRateLimiter LoginRateLimiter 객체를 주입받음
      */
     @Autowired
-    public AuthController(UserService userService, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, JwtUtil jwtUtil, LoginRateLimiter loginRateLimiter) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     /**
      * 로그인 API
      * @param username 사용자 이름
      * @param password 비밀번호
+     * @param request 원격 주소 확인용 요청 객체
      * @return JWT 토큰 또는 인증 실패 메시지
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestParam String username, @RequestParam String password) {
+    public ResponseEntity<?> login(@RequestParam String username, @RequestParam String password,
+                                   HttpServletRequest request) {
+        // 사용자 조회와 비밀번호 비교 전에 시도 횟수 제한 확인
+        if (!loginRateLimiter.tryAcquire(request.getRemoteAddr(), username)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.getRetryAfterSeconds()))
+                    .body("Too many login attempts");
+        }
+
         // 사용자 이름으로 사용자 조회
         User user = userService.getUserByUsername(username);
         if (user == null || !userService.verifyPassword(password, user.getPassword())) {
@@ -2,28 +2,48 @@ package com.tangeedad.myhome.controller;
 
 import com.tangeedad.myhome.dto.ArticleDisplayDto;
 import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleImportResult;
+import com.tangeedad.myhome.dto.ArticleJson;
+import com.tangeedad.myhome.dto.ArticleListVersion;
+import com.tangeedad.myhome.dto.ArticlePatchDto;
+import com.tangeedad.myhome.dto.ArticleSearchCondition;
 import com.tangeedad.myhome.entity.Article;
 import com.tangeedad.myhome.entity.File;
 import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.repository.ArticleField;
+import com.tangeedad.myhome.service.ArticleArchiveService;
+import com.tangeedad.myhome.service.ArticleEventFeed;
+import com.tangeedad.myhome.service.ArticleExportService;
+import com.tangeedad.myhome.service.ArticleImportService;
+import com.tangeedad.myhome.service.ArticleWriteCoordinator;
 import com.tangeedad.myhome.service.BoardService;
 import com.tangeedad.myhome.service.FileStorageService;
 import com.tangeedad.myhome.service.UserService;
 import com.tangeedad.myhome.util.JwtUtil;
 import com.tangeedad.myhome.validator.ArticleValidator;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * BoardApiController 클래스는 게시글(article) 관련 API를 제공하는 REST 컨트롤러입니다.
@@ -31,53 +51,212 @@ import java.util.stream.Collectors;
  *
  * 주요 기능:
  * - 게시글 목록 조회
+ * - 작성자별 게시글 목록 조회
  * - 게시글 상세 조회
+ * - 여러 게시글 일괄 조회
+ * - 보관 게시글 조회
  * - 게시글 생성
  * - 게시글 수정
  * - 게시글 삭제
+ * - 게시글 일괄 등록
+ * - 게시글 전체 내보내기
  */
 @RestController
 @RequestMapping("/api/articles")
 public class BoardApiController {
 
+    private static final int MAX_AUTHOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_IDS = 100;
+
     private final BoardService boardService;
     private final UserService userService;
     private final ArticleValidator articleValidator;
     private final FileStorageService fileStorageService;
     private final JwtUtil jwtUtil;
+    private final ArticleImportService articleImportService;
+    private final ArticleExportService articleExportService;
+    private final ArticleArchiveService articleArchiveService;
+    private final ArticleEventFeed articleEventFeed;
+    private final ArticleWriteCoordinator articleWriteCoordinator;
 
     @Autowired
     public BoardApiController(BoardService boardService,
                               UserService userService,
                               ArticleValidator articleValidator,
                               FileStorageService fileStorageService,
-                              JwtUtil jwtUtil) {
+                              JwtUtil jwtUtil,
+                              ArticleImportService articleImportService,
+                              ArticleExportService articleExportService,
+                              ArticleArchiveService articleArchiveService,
+                              ArticleEventFeed articleEventFeed,
+                              ArticleWriteCoordinator articleWriteCoordinator) {
         this.boardService = boardService;
         this.userService = userService;
         this.articleValidator = articleValidator;
         this.fileStorageService = fileStorageService;
         this.jwtUtil = jwtUtil;
+        this.articleImportService = articleImportService;
+        this.articleExportService = articleExportService;
+        this.articleArchiveService = articleArchiveService;
+        this.articleEventFeed = articleEventFeed;
+        this.articleWriteCoordinator = articleWriteCoordinator;
     }
 
     /**
      * 게시글 목록 조회 API
      *
      * @param searchText 검색어 (선택적)
+     * @param authorId 작성자 ID (선택적)
+     * @param regDateFrom 등록일 시작, ISO 형식 (선택적)
+     * @param regDateTo 등록일 끝, ISO 형식 (선택적)
+     * @param minReadCount 최소 조회수 (선택적)
      * @param page 페이지 번호 (기본값: 0)
      * @param size 페이지 크기 (기본값: 10)
-     * @return 게시글 목록과 상태 코드
+     * @param fields 조회할 필드, 쉼표로 구분 (선택적, 지정하면 해당 컬럼만 조회하여 반환)
+     * @param ifNoneMatch 이전 응답의 ETag (선택적, 일치하면 목록을 조회하지 않고 304 반환)
+     * @return 게시글 목록과 상태 코드 (전체 게시글 수는 X-Total-Count 헤더)
      */
     @GetMapping
-    public ResponseEntity<List<ArticleDisplayDto>> getArticles(@RequestParam(required = false) String searchText,
-                                                               @RequestParam(defaultValue = "0") int page,
-                                                               @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<?> getArticles(
+            @RequestParam(required = false) String searchText,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime regDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime regDateTo,
+            @RequestParam(required = false) Long minReadCount,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<ArticleField> selected = null;
+        if (fields != null) {
+            try {
+                selected = ArticleField.parse(fields);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
+
+        try {
+            ArticleSearchCondition condition = new ArticleSearchCondition(searchText);
+            condition.setAuthorId(authorId);
+            condition.setRegDateFrom(regDateFrom);
+            condition.setRegDateTo(regDateTo);
+            condition.setMinReadCount(minReadCount);
+
+            String eTag = listETag(boardService.getListVersion(),
+                    Objects.hash(searchText, authorId, regDateFrom, regDateTo, minReadCount, page, size, fields));
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(eTag)
+                    .header("X-Total-Count", String.valueOf(boardService.countArticles(condition)));
+            if (selected != null) {
+                return response.body(boardService.getArticleFields(condition, PageRequest.of(page, size), selected));
+            }
+
+            List<ArticleDisplayDto> articles = boardService.getArticleDisplays(condition, PageRequest.of(page, size));
+            return response.body(articles);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회 API
+     * 최신 글부터 키셋 방식으로 조회하며, 다음 페이지가 있으면 X-Next-Cursor 헤더에 커서를 담습니다.
+     *
+     * @param userId 작성자 ID
+     * @param beforeId 이전 페이지의 마지막 게시글 ID (선택적)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @param fields 조회할 필드, 쉼표로 구분 (기본값: id,title,regDate,readCount)
+     * @return 선택한 필드만 담은 게시글 목록과 상태 코드
+     */
+    @GetMapping("/authors/{userId}")
+    public ResponseEntity<?> getArticlesByAuthor(@PathVariable Long userId,
+                                                 @RequestParam(required = false) Long beforeId,
+                                                 @RequestParam(defaultValue = "20") int size,
+                                                 @RequestParam(defaultValue = "id,title,regDate,readCount") String fields) {
+        Set<ArticleField> selected;
+        try {
+            selected = ArticleField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        try {
+            int pageSize = Math.max(1, Math.min(size, MAX_AUTHOR_PAGE_SIZE));
+            List<Map<String, Object>> articles = boardService.getArticlesByAuthor(userId, beforeId, pageSize, selected);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (articles.size() == pageSize) {
+                response.header("X-Next-Cursor", String.valueOf(articles.get(articles.size() - 1).get("id")));
+            }
+            return response.body(articles);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 게시글 변경 이벤트 구독 API (Server-Sent Events)
+     * 게시글이 생성/수정/삭제되면 article 이벤트를, 놓친 이벤트를 이어 보낼 수 없으면 resync 이벤트를 보냅니다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (선택적, 재연결 시 이후 이벤트부터 전송)
+     * @return SSE 스트림 (구독자 수가 최대치이면 503)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return articleEventFeed.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * 게시글 전체 내보내기 API
+     * 모든 게시글을 ArticleDisplayDto 형식으로 한 줄에 하나씩 NDJSON 스트리밍합니다.
+     *
+     * @return 게시글 NDJSON 스트림
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        StreamingResponseBody body = articleExportService::exportArticles;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 여러 게시글 일괄 조회 API
+     * 게시글마다 상세 조회를 호출하는 대신 한 번에 조회하며, 각 게시글의 조회수도 함께 증가시킵니다.
+     *
+     * @param ids 게시글 ID 목록 (최대 100개)
+     * @return 요청 순서대로 정렬된 게시글 목록과 상태 코드 (존재하지 않는 ID는 제외)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getArticlesByIds(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().body("ids는 1개 이상 " + MAX_BATCH_IDS + "개 이하여야 합니다.");
+        }
         try {
-            List<ArticleDisplayDto> articles = boardService.getArticles(searchText, PageRequest.of(page, size))
-                    .getContent()
-                    .stream()
-                    .map(ArticleDisplayDto::new)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(articles);
+            return ResponseEntity.ok(boardService.getArticlesByIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 보관 게시글 조회 API
+     * 게시 기간이 끝나 보관 테이블로 옮겨진 게시글을 조회합니다. 조회수는 증가시키지 않습니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 정보와 상태 코드
+     */
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<ArticleDto> getArchivedArticle(@PathVariable Long id) {
+        try {
+            return articleArchiveService.findArchivedArticle(id)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -87,19 +266,116 @@ public class BoardApiController {
      * 특정 게시글 상세 조회 API
      *
      * @param id 게시글 ID
+     * @param fields 조회할 필드, 쉼표로 구분 (선택적, files를 지정하면 첨부파일 목록 포함)
+     * @param ifNoneMatch 이전 응답의 ETag (선택적, 일치하면 본문 없이 304 반환)
      * @return 게시글 정보와 상태 코드
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ArticleDto> getArticleById(@PathVariable Long id) {
+    public ResponseEntity<?> getArticleById(@PathVariable Long id,
+                                            @RequestParam(required = false) String fields,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (fields != null) {
+            return getArticleFieldsById(id, fields);
+        }
+        try {
+            if (ifNoneMatch != null) {
+                // 버전만 비교하여 변경이 없으면 DTO 변환과 조회수 증가 없이 응답
+                Optional<String> eTag = boardService.getArticleVersion(id).map(version -> articleETag(id, version));
+                if (eTag.isPresent() && eTagMatches(ifNoneMatch, eTag.get())) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+                }
+            }
+
+            Optional<ArticleJson> article = boardService.getArticleDetail(id);
+            if (article.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            // 캐시된 직렬화 결과를 그대로 출력 (클라이언트가 gzip을 받으면 압축본 사용)
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (article.get().getVersion() != null) {
+                response.eTag(articleETag(id, article.get().getVersion()));
+            }
+            if (acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(article.get().getGzip());
+            }
+            return response.body(article.get().getJson());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity<?> getArticleFieldsById(Long id, String fields) {
+        List<String> names = new ArrayList<>(List.of(fields.split(",")));
+        boolean includeFiles = names.removeIf(name -> name.trim().equals("files"));
+        Set<ArticleField> selected;
+        try {
+            selected = ArticleField.parse(String.join(",", names));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
         try {
-            Optional<Article> article = boardService.getArticleById(id);
-            return article.map(value -> ResponseEntity.ok(new ArticleDto(value)))
+            Optional<Map<String, Object>> article = boardService.getArticleFieldsById(id, selected, includeFiles);
+            return article.<ResponseEntity<?>>map(ResponseEntity::ok)
                     .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // 게시글 ETag: W/"a{id}-v{버전}" (본문의 조회수는 버전 없이 바뀌므로 약한 ETag)
+    private static String articleETag(Long id, Long version) {
+        return "W/\"a" + id + "-v" + version + "\"";
+    }
+
+    // 목록 ETag: W/"l{요청 파라미터 해시}-{마지막 이벤트 ID}-{마지막 게시 기간 경계}" (조회수 변화는 반영하지 않음)
+    private static String listETag(ArticleListVersion version, int paramsHash) {
+        return "W/\"l" + Integer.toHexString(paramsHash) + "-" + version.getLastEventId() + "-" + version.getBoundary() + "\"";
+    }
+
+    // If-None-Match의 ETag 목록 중 하나라도 일치하는지 확인 (약한 비교, *는 모두 일치)
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = weakless(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || weakless(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String weakless(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    // Accept-Encoding에 gzip이 있고 q=0으로 거부하지 않았는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     /**
      * 게시글 생성 API
      *
@@ -149,8 +425,8 @@ public class BoardApiController {
                 }
             }
 
-            // 게시글 저장
-            Article savedArticle = boardService.saveArticle(article);
+            // 게시글 저장 (쓰기 코디네이터가 켜져 있으면 동시 요청과 한 트랜잭션으로 커밋)
+            Article savedArticle = articleWriteCoordinator.create(article);
             return ResponseEntity.status(HttpStatus.CREATED).body(new ArticleDto(savedArticle));
 
         } catch (Exception e) {
@@ -158,6 +434,34 @@ public class BoardApiController {
         }
     }
 
+    /**
+     * 게시글 일괄 등록 API
+     * 한 줄에 게시글 하나(ArticleDto 형식, 첨부파일 메타데이터 포함)인 NDJSON 본문을 받아 배치 단위로 등록합니다.
+     * 첨부파일은 이미 저장소에 옮겨진 파일의 경로만 기록합니다.
+     *
+     * @param request 요청 본문을 읽기 위한 요청 객체
+     * @param authorizationHeader 인증 헤더 (JWT 토큰 포함)
+     * @return 등록 결과 요약과 상태 코드 (입력을 끝까지 읽지 못했으면 그때까지 커밋된 결과와 함께 400)
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<?> importArticles(HttpServletRequest request,
+                                            @RequestHeader("Authorization") String authorizationHeader) {
+        try {
+            String token = authorizationHeader.replace("Bearer ", "");
+            User user = userService.getUserByUsername(jwtUtil.extractUsername(token));
+            if (user == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid user");
+            }
+
+            ArticleImportResult result = articleImportService.importArticles(request.getInputStream(), user.getId());
+            if (result.isAborted()) {
+                return ResponseEntity.badRequest().body(result);
+            }
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
     /**
      * 게시글 수정 API
@@ -167,7 +471,7 @@ public class BoardApiController {
      * @param bindingResult 유효성 검증 결과
      * @param files 첨부 파일 목록 (선택적)
      * @param authorizationHeader 인증 헤더 (JWT 토큰 포함)
-     * @return 수정된 게시글 정보와 상태 코드
+     * @return 수정된 게시글 정보와 상태 코드 (다른 요청이 먼저 수정했으면 409)
      */
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateArticle(
@@ -221,11 +525,77 @@ public class BoardApiController {
             } else {
                 return ResponseEntity.notFound().build();
             }
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("게시글이 다른 요청으로 먼저 수정되었습니다.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 게시글 부분 수정 API
+     * JSON 본문에 있는 필드(title, content, startDate, endDate)만 바꾸고, 없는 필드는 그대로 둡니다.
+     * 값이 실제로 바뀐 컬럼만 UPDATE하며, 바뀐 것이 없으면 아무것도 쓰지 않고 현재 게시글을 돌려줍니다.
+     * version을 함께 보내면 그 버전일 때만 수정하고, 보내지 않으면 다른 수정과 충돌할 때 최신 상태에 다시 적용합니다.
+     *
+     * @param id                  수정할 게시글 ID
+     * @param patch               바꿀 필드와 기대 버전 (선택적)
+     * @param authorizationHeader 인증 헤더 (JWT 토큰 포함)
+     * @return 수정된 게시글 (필드 검증 실패 400, 게시글이 없으면 404,
+     *         보낸 버전이 맞지 않으면 412, 버전 없이 재시도해도 충돌하면 409)
+     */
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> patchArticle(
+            @PathVariable Long id,
+            @RequestBody ArticlePatchDto patch,
+            @RequestHeader("Authorization") String authorizationHeader) {
+
+        String error = validatePatch(patch);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        try {
+            String token = authorizationHeader.replace("Bearer ", "");
+            User user = userService.getUserByUsername(jwtUtil.extractUsername(token));
+            if (user == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid user");
+            }
+
+            return boardService.patchArticle(id, patch)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            HttpStatus status = patch.getVersion() != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+            return ResponseEntity.status(status).body("게시글이 다른 요청으로 먼저 수정되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // 부분 수정 요청의 필드 검사 (보낸 필드만 ArticleValidator와 같은 규칙으로 검사)
+    private static String validatePatch(ArticlePatchDto patch) {
+        if (patch.isEmpty()) {
+            return "수정할 필드가 없습니다.";
+        }
+        if (patch.getTitle() != null && (patch.getTitle().trim().length() < 2 || patch.getTitle().length() > 30)) {
+            return "제목은 2자 이상 30자 이하여야 합니다.";
+        }
+        if (patch.getContent() != null && patch.getContent().trim().isEmpty()) {
+            return "내용을 입력하세요.";
+        }
+        if (patch.getContent() != null
+                && patch.getContent().codePointCount(0, patch.getContent().length()) > Article.CONTENT_MAX_LENGTH) {
+            return "내용은 " + Article.CONTENT_MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        if (patch.getEndDate() != null && patch.getEndDate().isBefore(LocalDateTime.now())) {
+            return "종료일은 현재 시간보다 이후여야 합니다.";
+        }
+        return null;
+    }
+
     /**
      * 게시글 삭제 API
      *
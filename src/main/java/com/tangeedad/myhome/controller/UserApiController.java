@@ -1,14 +1,25 @@
 package com.tangeedad.myhome.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.tangeedad.myhome.dto.UserDto;
+import com.tangeedad.myhome.dto.UserImportResult;
 import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.service.UserBulkImportService;
 import com.tangeedad.myhome.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -18,9 +29,9 @@ import java.util.stream.Collectors;
  * 이 컨트롤러는 사용자 조회, 생성, 수정, 삭제 및 검색 요청을 처리합니다.
  *
  * 주요 기능:
- * - 사용자 목록 조회
+ * - 사용자 목록 조회 (키셋 페이지네이션, NDJSON 스트리밍)
  * - 사용자 상세 조회
- * - 사용자 생성
+ * - 사용자 생성 (CSV/NDJSON 일괄 등록 포함)
  * - 사용자 수정
  * - 사용자 비활성화
  */
@@ -28,41 +39,92 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/users")
 public class UserApiController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserBulkImportService userBulkImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * 사용자 목록 조회 API
+     * 사용자 목록과 사용자 이름 검색 결과 모두 ID 순서의 키셋 페이지로 반환하고, 페이지가 가득 차면 X-Next-Cursor 헤더에 커서를 담습니다.
      *
      * @param username 검색할 사용자 이름 (선택적)
-     * @param method 검색 방법 (query 사용 시 데이터베이스 쿼리 활용)
+     * @param method 검색 방법 (query 사용 시 데이터베이스 쿼리 활용, prefix 사용 시 접두어 검색)
+     * @param afterId 이전 페이지의 마지막 사용자 ID (선택적)
+     * @param size 페이지 크기 (기본값: 100, 최대 1000)
      * @return 사용자 목록과 상태 코드
      */
     @GetMapping
     public ResponseEntity<List<UserDto>> getUsers(
             @RequestParam(required = false) String username,
-            @RequestParam(required = false) String method) {
+            @RequestParam(required = false) String method,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int size) {
 
-        List<User> users;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<UserDto> page;
 
         try {
             if (username == null || username.isEmpty()) {
                 if ("query".equals(method)) {
-                    users = userService.getUserByUsernameQuery(username);
+                    page = toDtos(userService.getUserByUsernameQuery(username, afterId, pageSize));
                 } else {
-                    users = userService.getAllUsers();
+                    page = userService.getUserPage(afterId, pageSize);
                 }
+            } else if ("prefix".equals(method)) {
+                page = toDtos(userService.findUsersByUsernamePrefix(username, afterId, pageSize));
             } else {
-                users = userService.findUsersByUsername(username);
+                page = toDtos(userService.findUsersByUsername(username, afterId, pageSize));
+            }
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.size() == pageSize) {
+                response.header("X-Next-Cursor", String.valueOf(page.get(page.size() - 1).getId()));
             }
-            // Convert User entities to UserDto
-            List<UserDto> userDtos = users.stream().map(UserDto::new).collect(Collectors.toList());
-            return ResponseEntity.ok(userDtos);
+            return response.body(page);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
+    // Convert User entities to UserDto
+    private static List<UserDto> toDtos(List<User> users) {
+        return users.stream().map(UserDto::new).collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자 전체 NDJSON 스트리밍 API
+     * Accept: application/x-ndjson 요청 시 모든 사용자를 한 줄에 하나씩 스트리밍하며, 메모리에는 한 배치만 유지합니다.
+     *
+     * @return 사용자 NDJSON 스트림
+     */
+    @GetMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        ObjectWriter writer = objectMapper.writerFor(UserDto.class);
+        StreamingResponseBody body = outputStream ->
+                userService.streamAllUsers(STREAM_BATCH_SIZE, batch -> writeLines(writer, batch, outputStream));
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLines(ObjectWriter writer, List<?> lines, OutputStream outputStream) {
+        try {
+            for (Object line : lines) {
+                outputStream.write(writer.writeValueAsBytes(line));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * 특정 사용자의 상세 정보 조회 API
      *
@@ -88,7 +150,7 @@ public class UserApiController {
      */
     @PostMapping
     public ResponseEntity<UserDto> createUser(@Valid @RequestBody UserDto userDto) {
-        if (userService.getUserByUsername(userDto.getUsername()) != null) {
+        if (userService.isUsernameTaken(userDto.getUsername())) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 사용자 이름 중복
         }
 
@@ -103,10 +165,30 @@ public class UserApiController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
         } catch (Exception e) {
+            if (e.getCause() instanceof DataIntegrityViolationException) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 유니크 인덱스에서 확인된 중복
+            }
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
+    /**
+     * 사용자 일괄 등록 API
+     * CSV(username,password[,enabled]) 또는 NDJSON 본문을 스트리밍으로 읽어 등록하고, 행별 결과를 NDJSON으로 스트리밍합니다.
+     *
+     * @param request 요청 본문을 읽기 위한 요청 객체
+     * @return 행별 처리 결과 NDJSON 스트림
+     */
+    @PostMapping(value = "/bulk", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request) {
+        boolean ndjson = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(APPLICATION_NDJSON);
+        ObjectWriter writer = objectMapper.writerFor(UserImportResult.class);
+        StreamingResponseBody body = outputStream ->
+                userBulkImportService.importUsers(request.getInputStream(), ndjson,
+                        results -> writeLines(writer, results, outputStream));
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * 사용자 수정 API
      *
@@ -144,11 +226,7 @@ public class UserApiController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deactivateUser(@PathVariable Long id) {
-        Optional<User> user = userService.getUserById(id);
-        if (user.isPresent()) {
-            User existingUser = user.get();
-            existingUser.setEnabled(false); // 사용자를 비활성화 처리
-            userService.saveUser(existingUser);
+        if (userService.deactivateUser(id)) { // 사용자를 비활성화 처리
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
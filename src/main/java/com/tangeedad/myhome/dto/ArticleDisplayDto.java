@@ -1,5 +1,6 @@
 package com.tangeedad.myhome.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.tangeedad.myhome.entity.Article;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +12,9 @@ import java.time.LocalDateTime;
 public class ArticleDisplayDto {
     private Long id; // 게시글 ID
     private String title; // 제목
-    private String content; // 내용
+    private String summary; // 내용 요약
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String content; // 내용 (내보내기에서만 채움, 목록 응답에서는 생략)
     private LocalDateTime regDate; // 등록일
     private long readCount; // 조회수
     private String userName; // 작성자 이름
@@ -19,11 +22,21 @@ public class ArticleDisplayDto {
     public ArticleDisplayDto() {
     }
 
+    // 목록 쿼리의 생성자 프로젝션용
+    public ArticleDisplayDto(Long id, String title, String summary, LocalDateTime regDate, long readCount, String userName) {
+        this.id = id;
+        this.title = title;
+        this.summary = summary;
+        this.regDate = regDate;
+        this.readCount = readCount;
+        this.userName = userName;
+    }
+
     // Article 엔티티를 받아 필요한 필드만 설정하는 생성자
     public ArticleDisplayDto(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
-        this.content = article.getContent();
+        this.summary = article.getSummary();
         this.regDate = article.getRegDate();
         this.readCount = article.getReadCount();
         this.userName = article.getUser() != null ? article.getUser().getUsername() : null; // 작성자 이름
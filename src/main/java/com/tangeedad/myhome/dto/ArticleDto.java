@@ -19,6 +19,7 @@ public class ArticleDto {
     private LocalDateTime regDate;
     private LocalDateTime lastUpdateDate;
     private long readCount;
+    private Long version; // 낙관적 잠금 버전 (PATCH 시 기대 버전으로 사용)
     private UserDto user; // User 정보를 포함
     private List<FileDto> files; // 파일 리스트 DTO
 
@@ -34,6 +35,7 @@ public class ArticleDto {
         this.regDate = article.getRegDate();
         this.lastUpdateDate = article.getLastUpdateDate();
         this.readCount = article.getReadCount();
+        this.version = article.getVersion();
         this.user = article.getUser() != null ? new UserDto(article.getUser()) : null;
         this.files = article.getFiles().stream()
                 .map(FileDto::new)
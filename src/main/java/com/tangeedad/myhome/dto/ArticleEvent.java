@@ -0,0 +1,46 @@
+package com.tangeedad.myhome.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tangeedad.myhome.entity.Article;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 (article_outbox에 기록되고 SSE로 전달되는 간략한 형식)
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ArticleEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        ARCHIVED // 게시 기간이 끝나 보관 테이블로 옮겨짐
+    }
+
+    private final Type type;
+    private final Long articleId;
+    private final String title; // 삭제/보관 이벤트는 null
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final LocalDateTime occurredAt; // 이벤트 발생 시각
+
+    public ArticleEvent(Type type, Long articleId, String title,
+                        LocalDateTime startDate, LocalDateTime endDate, LocalDateTime occurredAt) {
+        this.type = type;
+        this.articleId = articleId;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.occurredAt = occurredAt;
+    }
+
+    public static ArticleEvent saved(Article article, boolean created) {
+        return new ArticleEvent(created ? Type.CREATED : Type.UPDATED, article.getId(), article.getTitle(),
+                article.getStartDate(), article.getEndDate(), LocalDateTime.now());
+    }
+
+    public static ArticleEvent deleted(Long articleId) {
+        return new ArticleEvent(Type.DELETED, articleId, null, null, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,48 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 일괄 등록 결과 요약
+ * 배치마다 커밋되므로, 중간에 중단되어도 importedArticles까지는 이미 저장되어 있습니다.
+ */
+@Getter
+public class ArticleImportResult {
+    private long importedArticles; // 커밋된 게시글 수
+    private long importedFiles; // 커밋된 첨부파일 수
+    private long committedBatches; // 커밋된 트랜잭션 수
+    private final List<Rejected> rejected = new ArrayList<>(); // 등록하지 못한 행
+    private String abortedReason; // 입력을 끝까지 처리하지 못한 이유 (완료되면 null)
+
+    public void addImported(long articles, long files) {
+        this.importedArticles += articles;
+        this.importedFiles += files;
+        this.committedBatches++;
+    }
+
+    public void abort(String reason) {
+        this.abortedReason = reason;
+    }
+
+    public boolean isAborted() {
+        return abortedReason != null;
+    }
+
+    public void reject(long line, String message) {
+        rejected.add(new Rejected(line, message));
+    }
+
+    @Getter
+    public static class Rejected {
+        private final long line; // 입력 행 번호 (1부터 시작)
+        private final String message;
+
+        public Rejected(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tangeedad.myhome.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 게시글 상세 응답
+ *
+ * 게시글 한 버전(id + version)의 UTF-8 JSON 바이트와 gzip 압축본을 함께 보관하여
+ * 캐시된 응답을 DTO 변환이나 Jackson 직렬화 없이 그대로 출력할 수 있게 합니다.
+ * 바이트 배열은 여러 요청이 공유하므로 수정하지 않습니다.
+ */
+@Getter
+public class ArticleJson {
+    private final Long id;
+    private final Long version; // 낙관적 잠금 버전 (ETag용)
+    private final byte[] json; // UTF-8 JSON
+    private final byte[] gzip; // json의 gzip 압축본
+
+    private ArticleJson(Long id, Long version, byte[] json, byte[] gzip) {
+        this.id = id;
+        this.version = version;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * 게시글을 JSON으로 직렬화하고 gzip 압축본을 만듭니다.
+     *
+     * @param article 게시글 DTO
+     * @param objectMapper 응답과 같은 설정의 ObjectMapper
+     * @return 직렬화된 게시글
+     */
+    public static ArticleJson of(ArticleDto article, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(article);
+            return new ArticleJson(article.getId(), article.getVersion(), json, compress(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글을 JSON으로 변환하지 못했습니다. id=" + article.getId(), e);
+        }
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return out.toByteArray();
+    }
+}
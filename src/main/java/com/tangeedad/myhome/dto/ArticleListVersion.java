@@ -0,0 +1,20 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시글 목록의 버전 정보
+ *
+ * 마지막 게시글 변경 이벤트 ID와 마지막으로 지난 게시 기간 경계 시각으로, 목록 ETag를 만드는 데 사용합니다.
+ * 게시글이 저장/삭제/보관되면 이벤트 ID가, 게시 기간이 시작/종료되면 경계 시각이 바뀝니다.
+ */
+@Getter
+public class ArticleListVersion {
+    private final long lastEventId; // article_outbox의 마지막 이벤트 ID (없으면 0)
+    private final long boundary; // 마지막으로 지난 게시 기간 경계 (epoch millis)
+
+    public ArticleListVersion(long lastEventId, long boundary) {
+        this.lastEventId = lastEventId;
+        this.boundary = boundary;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+
+/**
+ * article_outbox 테이블에서 읽은 게시글 변경 이벤트
+ */
+@Getter
+public class ArticleOutboxEvent {
+    private final long id; // 아웃박스 행 ID (전달 순서이자 구독자 오프셋)
+    private final Long articleId;
+    private final ArticleEvent.Type type;
+    private final String payload; // ArticleEvent JSON
+
+    public ArticleOutboxEvent(long id, Long articleId, ArticleEvent.Type type, String payload) {
+        this.id = id;
+        this.articleId = articleId;
+        this.type = type;
+        this.payload = payload;
+    }
+}
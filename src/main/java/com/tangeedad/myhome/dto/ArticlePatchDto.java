@@ -0,0 +1,23 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 부분 수정 요청 (null인 필드는 변경하지 않음)
+ */
+@Getter
+@Setter
+public class ArticlePatchDto {
+    private String title;
+    private String content;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Long version; // 기대 버전 (선택적, 지정하면 현재 버전과 다를 때 수정하지 않음)
+
+    public boolean isEmpty() {
+        return title == null && content == null && startDate == null && endDate == null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 검색 조건
+ * 값이 null인 조건은 적용하지 않습니다.
+ */
+@Getter
+@Setter
+public class ArticleSearchCondition {
+    private String searchText; // 제목 또는 내용 검색어
+    private Long authorId; // 작성자 ID
+    private LocalDateTime regDateFrom; // 등록일 시작 (포함)
+    private LocalDateTime regDateTo; // 등록일 끝 (미포함)
+    private Long minReadCount; // 최소 조회수
+    private LocalDateTime visibleAt; // 게시 기간 기준 시각 (null이면 현재 시각)
+
+    public ArticleSearchCondition() {
+    }
+
+    public ArticleSearchCondition(String searchText) {
+        this.searchText = searchText;
+    }
+
+    /**
+     * 현재 시각 기준 게시 기간 외의 조건이 있는지 여부
+     */
+    public boolean hasFilters() {
+        return (searchText != null && !searchText.isEmpty()) || authorId != null || regDateFrom != null
+                || regDateTo != null || minReadCount != null || visibleAt != null;
+    }
+}
@@ -5,6 +5,7 @@ import com.tangeedad.myhome.entity.User;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +21,15 @@ public class UserDto {
     public UserDto() {
     }
 
+    // 역할 없이 사용자 컬럼만 조회하는 프로젝션용 생성자 (역할은 별도 배치 조회로 채움)
+    public UserDto(Long id, String username, String password, boolean enabled) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled;
+        this.roles = new ArrayList<>();
+    }
+
     public UserDto(User user) {
         this.id = user.getId();
         this.username = user.getUsername();
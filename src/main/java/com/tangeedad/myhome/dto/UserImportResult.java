@@ -0,0 +1,31 @@
+package com.tangeedad.myhome.dto;
+
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 등록의 행별 처리 결과
+ */
+@Getter
+public class UserImportResult {
+
+    public enum Status {
+        CREATED, // 등록 성공
+        DUPLICATE, // 이미 존재하거나 같은 요청 안에서 중복된 사용자 이름
+        INVALID, // 형식 오류 또는 필수 값 누락
+        FAILED // 저장 중 오류
+    }
+
+    private final long line; // 입력 행 번호 (1부터 시작)
+    private final String username;
+    private final Status status;
+    private final Long id; // 등록된 사용자 ID
+    private final String message;
+
+    public UserImportResult(long line, String username, Status status, Long id, String message) {
+        this.line = line;
+        this.username = username;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+}
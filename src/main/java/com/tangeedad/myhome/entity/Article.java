@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,17 +14,31 @@ import java.util.List;
 @Entity
 @Table(name = "Articles") // 테이블 이름 명시
 @Data
+@DynamicUpdate // 변경된 컬럼만 UPDATE
 public class Article {
+
+    // 제목 최대 길이 (문자 수)
+    public static final int TITLE_MAX_LENGTH = 30;
+    // articles.content 컬럼 길이 (문자 수)
+    public static final int CONTENT_MAX_LENGTH = 255;
+    // articles.summary 컬럼 길이 (문자 수)
+    public static final int SUMMARY_MAX_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotNull
-    @Size(min=2, max=30, message = "제목은 2자이상 30자 이하여야 합니다.")
+    @Size(min=2, max=TITLE_MAX_LENGTH, message = "제목은 2자이상 30자 이하여야 합니다.")
     private String title;
 
+    @Column(length = CONTENT_MAX_LENGTH)
     private String content;
 
+    // 목록 미리보기용 요약 (저장 시 본문에서 계산)
+    @Column(length = SUMMARY_MAX_LENGTH)
+    private String summary;
+
     private LocalDateTime startDate;
     private LocalDateTime endDate;
 
@@ -33,8 +48,14 @@ public class Article {
     @Column(name = "last_update_date", updatable = false, insertable = false)
     private LocalDateTime lastUpdateDate;
 
+    // 조회수는 ReadCountBuffer가 SQL로만 늘리므로 게시글 수정(UPDATE)에는 포함하지 않음
+    @Column(name = "read_count", updatable = false)
     private long readCount = 0;
 
+    // 낙관적 잠금 버전 (수정할 때마다 1 증가)
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnore
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.query.NativeQuery;
 
 import java.util.ArrayList;
@@ -27,7 +28,9 @@ public class User {
 
     private boolean enabled = true;
 
+    // 사용자 목록 조회 시 역할을 사용자마다 따로 읽지 않고 최대 100명씩 IN 쿼리로 함께 읽음
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -0,0 +1,70 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.entity.Article;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 게시글 목록 조회 시 선택할 수 있는 컬럼
+ * 응답 JSON의 필드 이름과 조회할 엔티티 경로를 함께 정의합니다.
+ */
+public enum ArticleField {
+    ID("id", root -> root.get("id")),
+    TITLE("title", root -> root.get("title")),
+    CONTENT("content", root -> root.get("content")),
+    SUMMARY("summary", root -> root.get("summary")),
+    START_DATE("startDate", root -> root.get("startDate")),
+    END_DATE("endDate", root -> root.get("endDate")),
+    REG_DATE("regDate", root -> root.get("regDate")),
+    LAST_UPDATE_DATE("lastUpdateDate", root -> root.get("lastUpdateDate")),
+    READ_COUNT("readCount", root -> root.get("readCount")),
+    USER_ID("userId", root -> root.get("user").get("id")),
+    USER_NAME("userName", root -> root.join("user", JoinType.LEFT).get("username"));
+
+    private final String jsonName;
+    private final Function<Root<Article>, Expression<?>> path;
+
+    ArticleField(String jsonName, Function<Root<Article>, Expression<?>> path) {
+        this.jsonName = jsonName;
+        this.path = path;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    Expression<?> path(Root<Article> root) {
+        return path.apply(root);
+    }
+
+    /**
+     * 쉼표로 구분된 필드 이름 목록을 해석합니다. ID는 키셋 커서로 쓰이므로 항상 포함됩니다.
+     *
+     * @throws IllegalArgumentException 알 수 없는 필드 이름이 있는 경우
+     */
+    public static Set<ArticleField> parse(String fields) {
+        Set<ArticleField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(fromJsonName(trimmed));
+            }
+        }
+        return result;
+    }
+
+    public static ArticleField fromJsonName(String name) {
+        for (ArticleField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name) || field.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+    }
+}
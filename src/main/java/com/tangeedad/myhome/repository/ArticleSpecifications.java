@@ -0,0 +1,121 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.dto.ArticleSearchCondition;
+import com.tangeedad.myhome.entity.Article;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 게시글 검색 조건을 조합하는 Specification 모음
+ *
+ * 게시 기간 조건(start_date, end_date)을 항상 맨 앞에 두고 나머지 조건을 AND로 붙이므로,
+ * 생성되는 WHERE 절은 start_date_end_date 또는 id_title_content_start_date_end_date 인덱스의
+ * 선두 컬럼 범위 조건으로 시작합니다. 제목/내용 검색의 OR는 하나의 괄호로 묶여 게시 기간 조건을 무시하지 않습니다.
+ */
+public final class ArticleSpecifications {
+
+    private ArticleSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 하나의 Specification으로 만듭니다.
+     */
+    public static Specification<Article> of(ArticleSearchCondition condition, LocalDateTime now) {
+        LocalDateTime visibleAt = condition.getVisibleAt() != null ? condition.getVisibleAt() : now;
+        return Specification.where(visibleAt(visibleAt))
+                .and(titleOrContentContains(condition.getSearchText()))
+                .and(writtenBy(condition.getAuthorId()))
+                .and(registeredBetween(condition.getRegDateFrom(), condition.getRegDateTo()))
+                .and(readCountAtLeast(condition.getMinReadCount()));
+    }
+
+    /**
+     * 주어진 시각에 게시 중인 게시글 (start_date < 시각 < end_date)
+     */
+    public static Specification<Article> visibleAt(LocalDateTime at) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThan(root.get("startDate"), at),
+                cb.greaterThan(root.get("endDate"), at));
+    }
+
+    /**
+     * 제목 또는 내용에 검색어가 포함된 게시글
+     */
+    public static Specification<Article> titleOrContentContains(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), pattern, '\\'),
+                cb.like(root.get("content"), pattern, '\\'));
+    }
+
+    /**
+     * 특정 사용자가 작성한 게시글 (users 조인 없이 user_id 비교)
+     */
+    public static Specification<Article> writtenBy(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    /**
+     * 등록일이 [from, to) 구간인 게시글
+     */
+    public static Specification<Article> registeredBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get("regDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("regDate"), from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get("regDate"), from), cb.lessThan(root.get("regDate"), to));
+        };
+    }
+
+    /**
+     * 조회수가 최소값 이상인 게시글
+     */
+    public static Specification<Article> readCountAtLeast(Long minReadCount) {
+        if (minReadCount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("readCount"), minReadCount);
+    }
+
+    /**
+     * 특정 ID의 게시글
+     */
+    public static Specification<Article> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    /**
+     * ID 목록에 포함된 게시글
+     */
+    public static Specification<Article> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * 키셋 커서보다 ID가 작은 게시글 (최신 글부터 이어서 조회할 때 사용)
+     */
+    public static Specification<Article> idLessThan(Long beforeId) {
+        if (beforeId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.get("id"), beforeId);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,20 +1,55 @@
 package com.tangeedad.myhome.repository;
 
 import com.tangeedad.myhome.entity.Article;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.tangeedad.myhome.entity.File;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Article, Long> {
-    // 제목에 특정 문자열이 포함된 Article 검색
-    Page<Article> findAllByStartDateBeforeAndEndDateAfter(
-            LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+public interface BoardRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article>,
+        BoardRepositoryCustom {
+    // 목록 검색은 ArticleSpecifications로 조건을 조합하여 BoardRepositoryCustom의 findDisplayRows/findFields로
+    // 필요한 컬럼만 조회하고, 전체 수는 count(Specification)로 따로 구함
+
+    // 여러 게시글을 작성자와 함께 한 번의 IN 쿼리로 조회 (첨부파일은 배치 페치로 한 번에 로딩)
+    @Query("select a from Article a left join fetch a.user where a.id in ?1")
+    List<Article> findAllWithUserByIdIn(Collection<Long> ids);
+
+    // 게시글의 첨부파일만 조회
+    @Query("select f from File f where f.article.id = ?1 order by f.id")
+    List<File> findFilesByArticleId(Long articleId);
+
+    // 게시글의 버전만 조회 (조건부 요청의 ETag 비교용)
+    @Query("select a.version from Article a where a.id = ?1")
+    Optional<Long> findVersionById(Long id);
+
+    // DB가 갱신한 수정 시각 (수정 직후 응답에 반영)
+    @Query("select a.lastUpdateDate from Article a where a.id = ?1")
+    Optional<LocalDateTime> findLastUpdateDateById(Long id);
+
+    // 게시 기간이 아직 끝나지 않은 게시글의 [id, startDate, endDate] (활성 게시글 색인 적재용)
+    @Query("select a.id, a.startDate, a.endDate from Article a where a.endDate > ?1")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Object[]> streamWindowsEndingAfter(LocalDateTime now);
+
+    // 현재 게시 중인 게시글 수 (활성 게시글 색인의 개수 점검용)
+    @Query("select count(a) from Article a where a.startDate < ?1 and a.endDate > ?1")
+    long countVisibleAt(LocalDateTime now);
 
-    Page<Article> findByTitleContainingOrContentContainingAndStartDateBeforeAndEndDateAfter(
-            String title, String content, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    // 지정한 게시글의 [id, startDate, endDate] (활성 게시글 색인이 이벤트만으로 판단할 수 없을 때 DB 값으로 맞춤)
+    @Query("select a.id, a.startDate, a.endDate from Article a where a.id in ?1")
+    List<Object[]> findWindowsByIdIn(Collection<Long> ids);
 }
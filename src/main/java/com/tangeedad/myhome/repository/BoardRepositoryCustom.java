@@ -0,0 +1,35 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import com.tangeedad.myhome.entity.Article;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 엔티티 대신 선택한 컬럼만 조회하는 게시글 쿼리
+ */
+public interface BoardRepositoryCustom {
+
+    /**
+     * 조건에 맞는 게시글의 선택한 컬럼만 조회합니다.
+     *
+     * @param spec   검색 조건
+     * @param fields 조회할 컬럼
+     * @param pageable 정렬 조건과 조회 범위 (OFFSET/LIMIT)
+     * @return 필드 이름 -> 값 맵 목록 (필드 순서는 ArticleField 선언 순서)
+     */
+    List<Map<String, Object>> findFields(Specification<Article> spec, Set<ArticleField> fields, Pageable pageable);
+
+    /**
+     * 조건에 맞는 게시글을 목록 표시용 컬럼(content 제외)만 조회합니다.
+     *
+     * @param spec     검색 조건
+     * @param pageable 정렬 조건과 조회 범위 (OFFSET/LIMIT)
+     * @return 목록 표시용 게시글
+     */
+    List<ArticleDisplayDto> findDisplayRows(Specification<Article> spec, Pageable pageable);
+}
@@ -0,0 +1,94 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import com.tangeedad.myhome.entity.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BoardRepositoryCustom 구현
+ * Criteria API의 Tuple 쿼리로 선택한 컬럼만 SELECT하여, 목록에 필요 없는 content 등을 읽지 않습니다.
+ */
+class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(Specification<Article> spec, Set<ArticleField> fields, Pageable pageable) {
+        Set<ArticleField> selected = fields.isEmpty() ? EnumSet.of(ArticleField.ID) : EnumSet.copyOf(fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Article> root = query.from(Article.class);
+
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (ArticleField field : selected) {
+            selections.add(field.path(root).alias(field.getJsonName()));
+        }
+        query.multiselect(selections);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : createQuery(query, root, spec, pageable).getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (ArticleField field : selected) {
+                row.put(field.getJsonName(), tuple.get(field.getJsonName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public List<ArticleDisplayDto> findDisplayRows(Specification<Article> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArticleDisplayDto> query = cb.createQuery(ArticleDisplayDto.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(cb.construct(ArticleDisplayDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("summary"),
+                root.get("regDate"),
+                root.get("readCount"),
+                root.join("user", JoinType.LEFT).get("username")));
+
+        return createQuery(query, root, spec, pageable).getResultList();
+    }
+
+    private <T> TypedQuery<T> createQuery(CriteriaQuery<T> query, Root<Article> root,
+                                          Specification<Article> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery;
+    }
+}
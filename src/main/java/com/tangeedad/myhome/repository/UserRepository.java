@@ -1,16 +1,54 @@
 package com.tangeedad.myhome.repository;
 
+import com.tangeedad.myhome.dto.UserDto;
 import com.tangeedad.myhome.entity.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByUsername(String username);
 
     List<User> findByUsernameContaining(String username);
 
+    List<User> findByUsernameStartingWith(String prefix);
+
     @Query("select u from User u where u.username like %?1%")
     List<User> findByUsernameQuery(String username);
+
+    // 사용자 이름 검색 결과의 ID 기준 키셋 페이지
+    List<User> findByUsernameContainingAndIdGreaterThanOrderByIdAsc(String username, Long afterId, Limit limit);
+
+    List<User> findByUsernameStartingWithAndIdGreaterThanOrderByIdAsc(String prefix, Long afterId, Limit limit);
+
+    @Query("select u from User u where u.username like %?1% and u.id > ?2 order by u.id")
+    List<User> findByUsernameQueryAfter(String username, Long afterId, Limit limit);
+
+    // 전체 사용자 이름 스트리밍 (트랜잭션 안에서 사용하고 반드시 닫아야 함)
+    @Query("select u.username from User u")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<String> streamAllUsernames();
+
+    // 전체 [사용자 ID, 사용자 이름] 스트리밍 (트랜잭션 안에서 사용하고 반드시 닫아야 함)
+    @Query("select u.id, u.username from User u")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Object[]> streamAllIdAndUsernames();
+
+    // ID 기준 키셋 페이지네이션 (역할 제외)
+    @Query("select new com.tangeedad.myhome.dto.UserDto(u.id, u.username, u.password, u.enabled) " +
+            "from User u where u.id > ?1 order by u.id")
+    List<UserDto> findUserRowsAfter(Long afterId, Limit limit);
+
+    // 여러 사용자의 역할 이름을 한 번의 IN 쿼리로 조회 [사용자 ID, 역할 이름]
+    @Query("select u.id, r.name from User u join u.roles r where u.id in ?1")
+    List<Object[]> findRoleNamesByUserIds(Collection<Long> userIds);
 }
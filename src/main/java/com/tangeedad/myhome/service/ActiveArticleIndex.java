@@ -0,0 +1,417 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+import com.tangeedad.myhome.repository.BoardRepository;
+import com.tangeedad.myhome.util.HashedTimerWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * ActiveArticleIndex는 현재 게시 중인(start_date < 현재 < end_date) 게시글 ID를 정렬된 집합으로 유지합니다.
+ *
+ * 게시 여부는 start_date와 end_date 시각에만 바뀌므로, 게시글마다 두 경계 시각을 타이머 휠에 등록해 두고
+ * 해당 틱이 지나면 그 게시글만 다시 판정합니다. 목록 조회는 매 요청마다 기간 범위 스캔을 하지 않고
+ * 이 집합에서 페이지의 ID만 잘라 해당 게시글만 조회합니다. 경계 반영은 최대 한 틱(tick-ms)까지 늦을 수 있습니다.
+ *
+ * 같은 ID의 기간 변경, 제거, 경계 재판정은 모두 windows의 compute 안에서 처리되어 서로 겹치지 않으며,
+ * 기간이 바뀌면 이전 경계 타이머를 취소하므로 자주 수정되는 게시글도 타이머가 쌓이지 않습니다.
+ *
+ * 다른 인스턴스의 저장/삭제/보관도 반영하도록 ArticleOutboxRelay의 구독자로 등록되어 article_outbox의 모든 이벤트를
+ * ID 순서대로 반영합니다. 이 인스턴스의 변경은 커밋 직후에도 바로 반영하며, 같은 이벤트를 다시 받아도 결과는 같습니다.
+ */
+@Component
+public class ActiveArticleIndex implements ArticleChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveArticleIndex.class);
+
+    private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final HashedTimerWheel<Long> wheel;
+    private final LongSupplier clock;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 게시글 ID -> 게시 기간과 경계 타이머, 종료 전인 게시글만 유지
+    private final ConcurrentHashMap<Long, Window> windows = new ConcurrentHashMap<>();
+    // 현재 게시 중인 게시글 ID
+    private final ConcurrentSkipListSet<Long> active = new ConcurrentSkipListSet<>();
+    // active의 원소 수 (ConcurrentSkipListSet.size()는 전체 순회이므로 추가/제거 시 함께 갱신)
+    private final AtomicInteger activeCount = new AtomicInteger();
+    // 타이머로 반영한 게시 기간 경계 중 가장 최근 시각 (epoch millis, 목록 ETag용)
+    private final AtomicLong lastBoundary = new AtomicLong();
+    // 릴레이에서 받아 반영한 마지막 이벤트 ID (목록 ETag용, 전달을 시작하기 전에는 -1)
+    private final AtomicLong appliedEventId = new AtomicLong(-1);
+
+    // 적재 중 변경되거나 제거된 게시글 ID (적재 쿼리가 읽은 이전 행으로 되돌리지 않도록 적재가 끝날 때까지 보관)
+    private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+    private volatile boolean loaded;
+
+    @Autowired
+    public ActiveArticleIndex(BoardRepository boardRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${myhome.article.active-index.tick-ms:1000}") long tickMillis,
+                              @Value("${myhome.article.active-index.wheel-size:4096}") int wheelSize) {
+        this(boardRepository, transactionManager, objectMapper, tickMillis, wheelSize, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시각을 지정하기 위한 생성자
+    ActiveArticleIndex(BoardRepository boardRepository,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       long tickMillis,
+                       int wheelSize,
+                       LongSupplier clock) {
+        this.boardRepository = boardRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.wheel = new HashedTimerWheel<>(tickMillis, wheelSize, clock.getAsLong());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            load();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("활성 게시글 색인을 적재하지 못했습니다. DB 기간 조건을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료되지 않은 게시글의 게시 기간을 스트리밍하여 색인을 채웁니다.
+     * 이미 적재된 색인에 다시 호출하면 DB와 다른 기간을 고치고 DB에 없는 게시글을 제거하되,
+     * 적재 중 이벤트로 먼저 반영된 변경은 쿼리가 읽은 이전 값으로 되돌리지 않습니다.
+     */
+    public synchronized void load() {
+        // 쿼리 시작 전에 켜 두어야 쿼리가 읽은 행의 변경/삭제를 놓치지 않음
+        loading = true;
+        try {
+            Set<Long> seen = new HashSet<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = boardRepository.streamWindowsEndingAfter(LocalDateTime.now())) {
+                    rows.forEach(row -> {
+                        Long id = (Long) row[0];
+                        seen.add(id);
+                        loadWindow(id, (LocalDateTime) row[1], (LocalDateTime) row[2]);
+                    });
+                }
+            });
+            for (Long id : windows.keySet()) {
+                if (!seen.contains(id)) {
+                    windows.computeIfPresent(id, (key, window) -> {
+                        if (changedWhileLoading.contains(key)) {
+                            return window;
+                        }
+                        window.cancelTimers(wheel);
+                        deactivate(key);
+                        return null;
+                    });
+                }
+            }
+        } finally {
+            loading = false;
+            changedWhileLoading.clear();
+        }
+        loaded = true;
+        log.debug("활성 게시글 색인을 적재했습니다. active={}, windows={}, timers={}",
+                activeCount.get(), windows.size(), wheel.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${myhome.article.active-index.tick-ms:1000}")
+    public void advance() {
+        wheel.advance(clock.getAsLong(), this::refresh);
+    }
+
+    /**
+     * 게시 중인 게시글 수를 DB의 COUNT와 비교하여 다르면 색인을 다시 적재합니다.
+     * 놓친 이벤트나 인스턴스 간 반영 차이로 어긋난 개수가 reconcile-ms 이상 지속되지 않도록 합니다.
+     * 경계 반영이 최대 한 틱 늦으므로 경계 직후에는 어긋나지 않았어도 다시 적재할 수 있습니다.
+     */
+    @Scheduled(initialDelayString = "${myhome.article.active-index.reconcile-ms:300000}",
+            fixedDelayString = "${myhome.article.active-index.reconcile-ms:300000}")
+    public void reconcile() {
+        if (!loaded) {
+            return;
+        }
+        try {
+            long expected = boardRepository.countVisibleAt(LocalDateTime.now());
+            int actual = activeCount.get();
+            if (expected != actual) {
+                log.info("활성 게시글 수가 DB와 다릅니다(색인 {}, DB {}). 색인을 다시 적재합니다.", actual, expected);
+                load();
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("활성 게시글 색인을 점검하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글의 게시 기간을 추가하거나 변경합니다.
+     */
+    public void upsert(Long id, LocalDateTime startDate, LocalDateTime endDate) {
+        if (id == null) {
+            return;
+        }
+        if (startDate == null || endDate == null) {
+            remove(id); // 기간이 비어 있으면 DB 조건과 마찬가지로 게시되지 않음
+            return;
+        }
+        long start = toMillis(startDate);
+        long end = toMillis(endDate);
+        windows.compute(id, (key, previous) -> {
+            if (loading) {
+                changedWhileLoading.add(key);
+            }
+            return place(key, previous, start, end);
+        });
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        windows.compute(id, (key, window) -> {
+            if (window != null) {
+                window.cancelTimers(wheel);
+            }
+            if (loading) {
+                changedWhileLoading.add(key);
+            }
+            deactivate(key);
+            return null;
+        });
+    }
+
+    @Override
+    public String getSubscriberName() {
+        return "active-article-index";
+    }
+
+    // 재시작 사이에 놓친 변경도 이어서 받음 (색인은 인스턴스마다 따로 있으므로 위치도 인스턴스별로 저장)
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+
+    @Override
+    public void onStart(long position) {
+        appliedEventId.set(position);
+    }
+
+    /**
+     * 이벤트의 게시 기간으로 색인을 갱신합니다. 삭제/보관 이벤트는 제거하고, 내용을 읽을 수 없는 이벤트는
+     * 해당 게시글의 현재 기간을 DB에서 다시 읽어 맞춥니다.
+     */
+    @Override
+    public void onArticleChanges(List<ArticleOutboxEvent> events) {
+        List<Long> unreadable = new ArrayList<>();
+        for (ArticleOutboxEvent event : events) {
+            if (event.getType() == ArticleEvent.Type.DELETED || event.getType() == ArticleEvent.Type.ARCHIVED) {
+                remove(event.getArticleId());
+                continue;
+            }
+            try {
+                JsonNode payload = objectMapper.readTree(event.getPayload());
+                upsert(event.getArticleId(), dateOf(payload, "startDate"), dateOf(payload, "endDate"));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                unreadable.add(event.getArticleId());
+            }
+        }
+        refreshFromDatabase(unreadable);
+        if (!events.isEmpty()) {
+            appliedEventId.accumulateAndGet(events.get(events.size() - 1).getId(), Math::max);
+        }
+    }
+
+    /**
+     * 늦게 커밋된 이벤트는 이미 반영한 더 최신 이벤트보다 오래된 값일 수 있으므로 이벤트 내용 대신 DB의 현재 기간으로 맞춥니다.
+     */
+    @Override
+    public void onLateArticleChanges(List<ArticleOutboxEvent> events) {
+        refreshFromDatabase(events.stream().map(ArticleOutboxEvent::getArticleId).toList());
+    }
+
+    /**
+     * 릴레이에서 받아 반영한 마지막 이벤트 ID를 반환합니다. 모든 인스턴스가 같은 값을 보므로 목록 ETag에 사용합니다.
+     *
+     * @return 이벤트 ID (릴레이가 전달을 시작하지 않았으면 -1)
+     */
+    public long getAppliedEventId() {
+        return appliedEventId.get();
+    }
+
+    /**
+     * 현재 게시 중인 게시글 ID를 최신 글부터 잘라 반환합니다.
+     */
+    public List<Long> findActiveIds(long offset, int size) {
+        return active.descendingSet().stream().skip(offset).limit(size).toList();
+    }
+
+    /**
+     * 현재 게시 중인 게시글 수 (COUNT 쿼리 없이 저장/삭제/경계 시각마다 갱신되는 값)
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * 타이머로 반영한 게시 기간 시작/종료 경계 중 가장 최근 시각을 반환합니다.
+     * 경계가 지나 게시 중인 게시글이 바뀔 때만 증가하며, 저장/삭제에 따른 변경은 포함하지 않습니다.
+     *
+     * @return 경계 시각 (epoch millis, 아직 없으면 0)
+     */
+    public long getLastBoundary() {
+        return lastBoundary.get();
+    }
+
+    // 휠에 남아 있는 경계 타이머 수 (테스트용)
+    int pendingTimers() {
+        return wheel.size();
+    }
+
+    // 게시글의 현재 기간을 DB에서 읽어 반영하고, 없어진 게시글은 제거
+    private void refreshFromDatabase(Collection<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        missing.remove(null);
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (Object[] row : boardRepository.findWindowsByIdIn(List.copyOf(missing))) {
+            Long id = (Long) row[0];
+            upsert(id, (LocalDateTime) row[1], (LocalDateTime) row[2]);
+            missing.remove(id);
+        }
+        missing.forEach(this::remove);
+    }
+
+    private LocalDateTime dateOf(JsonNode payload, String field) {
+        JsonNode value = payload.get(field);
+        return value == null || value.isNull() ? null : objectMapper.convertValue(value, LocalDateTime.class);
+    }
+
+    // 적재 쿼리의 행을 반영 (적재 중 먼저 반영된 변경이나 제거는 덮어쓰지 않음)
+    private void loadWindow(Long id, LocalDateTime startDate, LocalDateTime endDate) {
+        windows.compute(id, (key, previous) -> {
+            if (changedWhileLoading.contains(key)) {
+                return previous;
+            }
+            if (startDate == null || endDate == null) {
+                if (previous != null) {
+                    previous.cancelTimers(wheel);
+                }
+                deactivate(key);
+                return null;
+            }
+            return place(key, previous, toMillis(startDate), toMillis(endDate));
+        });
+    }
+
+    // windows.compute 안에서 호출: 이전 타이머를 정리하고 새 기간으로 판정한 뒤 남은 경계에 타이머 등록
+    private Window place(Long id, Window previous, long start, long end) {
+        if (previous != null && previous.start == start && previous.end == end) {
+            return judge(id, previous); // 기간이 같으면 기존 타이머를 그대로 사용
+        }
+        if (previous != null) {
+            previous.cancelTimers(wheel);
+        }
+        long now = clock.getAsLong();
+        if (now >= end) {
+            deactivate(id);
+            return null;
+        }
+        // 경계 비교가 엄격(<, >)하므로 경계 바로 다음 시각에 다시 판정
+        HashedTimerWheel.Timeout<Long> startTimer = start >= now ? wheel.schedule(id, start + 1) : null;
+        HashedTimerWheel.Timeout<Long> endTimer = wheel.schedule(id, end);
+        return judge(id, new Window(start, end, startTimer, endTimer));
+    }
+
+    // 현재 시각 기준으로 게시 여부를 다시 판정 (같은 ID의 갱신과 겹치지 않도록 compute 안에서 처리)
+    private void refresh(Long id) {
+        windows.computeIfPresent(id, (key, window) -> {
+            boolean wasActive = active.contains(key);
+            Window judged = judge(key, window);
+            if (wasActive != active.contains(key)) {
+                // 경계를 지나 게시 여부가 바뀜 (시작 시 시작 시각, 종료 시 종료 시각)
+                lastBoundary.accumulateAndGet(wasActive ? window.end : window.start, Math::max);
+            }
+            return judged;
+        });
+    }
+
+    private Window judge(Long id, Window window) {
+        long now = clock.getAsLong();
+        if (now >= window.end) {
+            window.cancelTimers(wheel);
+            deactivate(id);
+            return null; // 종료된 게시글은 더 추적하지 않음
+        }
+        if (window.start < now) {
+            if (active.add(id)) {
+                activeCount.incrementAndGet();
+            }
+        } else {
+            deactivate(id);
+        }
+        return window;
+    }
+
+    private void deactivate(Long id) {
+        if (active.remove(id)) {
+            activeCount.decrementAndGet();
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    // 게시 기간(epoch millis)과 아직 남아 있을 수 있는 경계 타이머
+    private record Window(long start, long end,
+                          HashedTimerWheel.Timeout<Long> startTimer,
+                          HashedTimerWheel.Timeout<Long> endTimer) {
+
+        void cancelTimers(HashedTimerWheel<Long> wheel) {
+            wheel.cancel(startTimer);
+            wheel.cancel(endTimer);
+        }
+    }
+}
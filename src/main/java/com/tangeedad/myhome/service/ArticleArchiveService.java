@@ -0,0 +1,240 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.FileDto;
+import com.tangeedad.myhome.dto.UserDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ArticleArchiveService는 게시 기간이 끝난 게시글과 첨부파일을 보관 테이블로 옮기고, 보관된 게시글을 조회합니다.
+ *
+ * 이동은 PK 순서의 키셋으로 한 번에 batch-size건씩, 배치마다 짧은 트랜잭션에서 INSERT ... SELECT 후 DELETE하며,
+ * 배치 사이에 pause-ms만큼 쉬어 운영 트래픽과 복제 지연에 주는 영향을 줄입니다.
+ * 한 번 실행할 때 max-batches 배치까지만 옮기고 나머지는 다음 실행으로 넘깁니다.
+ *
+ * 배치 사이 대기가 공유 스케줄러 스레드(기본 1개)를 붙잡지 않도록 실제 이동은 전용 스레드에서 실행하며,
+ * 이전 실행이 끝나지 않았으면 이번 주기는 건너뜁니다. 배치 트랜잭션은 READ COMMITTED로 실행하여
+ * 잠금 조회가 (end_date, id) 인덱스 범위에 갭 락을 걸지 않게 합니다.
+ */
+@Service
+public class ArticleArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleArchiveService.class);
+
+    private static final String ARTICLE_COLUMNS =
+            "id, user_id, title, content, summary, start_date, end_date, reg_date, last_update_date, read_count, version";
+    private static final String FILE_COLUMNS =
+            "id, article_id, file_name, file_path, file_size, file_type, upload_date, uploaded_by";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActiveArticleIndex activeArticleIndex;
+    private final ArticleOutbox articleOutbox;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatches;
+    private final long graceHours;
+    // 배치 사이 대기를 공유 스케줄러 밖에서 처리하는 전용 스레드
+    private final ExecutorService archiveExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ArticleArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ActiveArticleIndex activeArticleIndex,
+                                 ArticleOutbox articleOutbox,
+                                 @Value("${myhome.article.archive.enabled:true}") boolean enabled,
+                                 @Value("${myhome.article.archive.batch-size:200}") int batchSize,
+                                 @Value("${myhome.article.archive.pause-ms:200}") long pauseMillis,
+                                 @Value("${myhome.article.archive.max-batches:50}") int maxBatches,
+                                 @Value("${myhome.article.archive.grace-hours:24}") long graceHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.activeArticleIndex = activeArticleIndex;
+        this.articleOutbox = articleOutbox;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatches = maxBatches;
+        this.graceHours = graceHours;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-archive-");
+        threadFactory.setDaemon(true);
+        this.archiveExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Scheduled(initialDelayString = "${myhome.article.archive.interval-ms:600000}",
+            fixedDelayString = "${myhome.article.archive.interval-ms:600000}")
+    public void scheduledArchive() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return; // 이전 실행이 아직 배치를 옮기는 중
+        }
+        try {
+            archiveExecutor.execute(() -> {
+                try {
+                    archiveExpired();
+                } catch (DataAccessException | TransactionException e) {
+                    log.warn("만료된 게시글을 보관하지 못했습니다: {}", e.getMessage());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false); // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        archiveExecutor.shutdownNow(); // 배치 사이 대기를 깨워 종료 (진행 중인 배치 트랜잭션은 끝까지 실행)
+    }
+
+    /**
+     * 종료 후 grace-hours가 지난 게시글을 보관 테이블로 옮깁니다.
+     *
+     * @return 옮긴 게시글 수
+     */
+    public int archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(graceHours);
+        long lastId = 0;
+        int moved = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            long afterId = lastId;
+            List<Long> ids = transactionTemplate.execute(status -> moveBatch(afterId, cutoff));
+            if (ids.isEmpty()) {
+                break;
+            }
+            ids.forEach(activeArticleIndex::remove);
+            moved += ids.size();
+            lastId = ids.get(ids.size() - 1);
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("만료된 게시글 {}건을 보관 테이블로 옮겼습니다.", moved);
+        }
+        return moved;
+    }
+
+    // 한 배치를 잠그고 복사한 뒤 운영 테이블에서 삭제 (다른 인스턴스가 잠근 행은 건너뜀)
+    private List<Long> moveBatch(long afterId, LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM articles WHERE id > :afterId AND end_date < :cutoff " +
+                        "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", batchSize),
+                Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("INSERT INTO articles_archive (" + ARTICLE_COLUMNS + ") " +
+                "SELECT " + ARTICLE_COLUMNS + " FROM articles WHERE id IN (:ids)", params);
+        jdbcTemplate.update("INSERT INTO article_files_archive (" + FILE_COLUMNS + ") " +
+                "SELECT " + FILE_COLUMNS + " FROM article_files WHERE article_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM article_files WHERE article_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM articles WHERE id IN (:ids)", params);
+
+        LocalDateTime now = LocalDateTime.now();
+        articleOutbox.appendAll(ids.stream()
+                .map(id -> new ArticleEvent(ArticleEvent.Type.ARCHIVED, id, null, null, null, now))
+                .toList());
+        return ids;
+    }
+
+    /**
+     * 보관된 게시글을 첨부파일과 함께 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 보관된 게시글 (Optional)
+     */
+    public Optional<ArticleDto> findArchivedArticle(Long id) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        List<ArticleDto> articles = jdbcTemplate.query(
+                "SELECT a.id, a.title, a.content, a.start_date, a.end_date, a.reg_date, a.last_update_date, " +
+                        "a.read_count, a.version, u.id AS user_id, u.username, u.enabled " +
+                        "FROM articles_archive a LEFT JOIN users u ON u.id = a.user_id WHERE a.id = :id",
+                params, (rs, rowNum) -> toArticle(rs));
+        if (articles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ArticleDto article = articles.get(0);
+        article.setFiles(jdbcTemplate.query(
+                "SELECT " + FILE_COLUMNS + " FROM article_files_archive WHERE article_id = :id ORDER BY id",
+                params, (rs, rowNum) -> toFile(rs)));
+        return Optional.of(article);
+    }
+
+    private static ArticleDto toArticle(ResultSet rs) throws SQLException {
+        ArticleDto article = new ArticleDto();
+        article.setId(rs.getLong("id"));
+        article.setTitle(rs.getString("title"));
+        article.setContent(rs.getString("content"));
+        article.setStartDate(toLocalDateTime(rs.getTimestamp("start_date")));
+        article.setEndDate(toLocalDateTime(rs.getTimestamp("end_date")));
+        article.setRegDate(toLocalDateTime(rs.getTimestamp("reg_date")));
+        article.setLastUpdateDate(toLocalDateTime(rs.getTimestamp("last_update_date")));
+        article.setReadCount(rs.getLong("read_count"));
+        article.setVersion(rs.getLong("version"));
+        long userId = rs.getLong("user_id");
+        if (!rs.wasNull()) {
+            article.setUser(new UserDto(userId, rs.getString("username"), null, rs.getBoolean("enabled")));
+        }
+        return article;
+    }
+
+    private static FileDto toFile(ResultSet rs) throws SQLException {
+        FileDto file = new FileDto();
+        file.setId(rs.getLong("id"));
+        file.setFileName(rs.getString("file_name"));
+        file.setFilePath(rs.getString("file_path"));
+        file.setFileSize(rs.getLong("file_size"));
+        file.setFileType(rs.getString("file_type"));
+        file.setUploadDate(toLocalDateTime(rs.getTimestamp("upload_date")));
+        file.setUploadedBy(rs.getString("uploaded_by"));
+        return file;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
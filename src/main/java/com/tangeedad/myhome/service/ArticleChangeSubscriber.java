@@ -0,0 +1,51 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+
+import java.util.List;
+
+/**
+ * 게시글 변경 이벤트를 받는 프로세스 내 구독자
+ *
+ * ArticleOutboxRelay가 아웃박스 ID 순서대로 배치 단위로 전달합니다. 전달 중 예외를 던지면 위치를 옮기지 않고
+ * 다음 주기에 같은 이벤트부터 다시 전달하므로(최소 한 번 전달), 같은 이벤트를 두 번 받아도 문제가 없어야 합니다.
+ */
+public interface ArticleChangeSubscriber {
+
+    /**
+     * 구독자 이름 (영속 구독자의 오프셋 키, 로그 표시용)
+     */
+    String getSubscriberName();
+
+    /**
+     * 영속 구독자이면 전달 위치를 article_outbox_offsets에 저장하여 재시작 후 이어서 받습니다.
+     * 영속 구독자가 아니면 시작 시점 이후의 이벤트만 받습니다.
+     */
+    default boolean isDurable() {
+        return false;
+    }
+
+    /**
+     * 구독자의 상태가 인스턴스마다 따로 있으면 true입니다. 영속 구독자의 위치를 인스턴스 ID별로 저장합니다.
+     * false이면 모든 인스턴스가 하나의 위치를 함께 씁니다.
+     */
+    default boolean isPerInstance() {
+        return true;
+    }
+
+    /**
+     * 릴레이가 전달을 시작할 때 호출됩니다. 이후 position보다 큰 ID의 이벤트만 전달됩니다.
+     */
+    default void onStart(long position) {
+    }
+
+    void onArticleChanges(List<ArticleOutboxEvent> events);
+
+    /**
+     * 빈자리로 보고 넘어갔던 ID의 이벤트가 뒤늦게 커밋되면 호출됩니다. 이미 전달한 위치보다 작은 ID의 이벤트만 오며,
+     * ID 순서로 정렬되어 있습니다. 기본 구현은 onArticleChanges로 그대로 넘깁니다.
+     */
+    default void onLateArticleChanges(List<ArticleOutboxEvent> events) {
+        onArticleChanges(events);
+    }
+}
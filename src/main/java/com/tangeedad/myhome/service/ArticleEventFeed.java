@@ -0,0 +1,391 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * ArticleEventFeed는 게시글 변경 이벤트를 SSE 구독자에게 전달합니다.
+ *
+ * ArticleOutboxRelay의 구독자로서 커밋된 이벤트를 받으며, 아웃박스 행 ID를 SSE 이벤트 ID로 사용합니다.
+ * 받은 이벤트의 JSON을 고정 크기 링 버퍼에 보관하고, 구독자마다 크기가 제한된 큐에 넣기만 합니다.
+ * 실제 전송은 소수의 전송 스레드가 큐를 비우며 처리하므로 발행하는 쪽은 구독자 수나 느린 클라이언트 때문에 막히지 않습니다.
+ * 구독자 큐가 넘치면 밀린 이벤트를 버리고 resync 이벤트를 보내 클라이언트가 목록을 다시 읽도록 합니다.
+ *
+ * SseEmitter.send()는 소켓 버퍼가 찰 때까지 블로킹되므로, 한 번의 전송이 send-timeout-ms를 넘긴 구독자는 감시 작업이
+ * 구독에서 제외하고 막힌 스레드 대신 전송 스레드를 하나 더 띄웁니다(최대 max-stalled-sends개). 막힌 스레드는 컨테이너의
+ * 쓰기 타임아웃으로 전송이 끝나면 풀로 돌아오며, 그동안 다른 구독자의 전송은 멈추지 않습니다.
+ * 재연결 시 Last-Event-ID가 링 버퍼 범위 안이면 이후 이벤트를 이어서 보내고, 범위를 벗어나면 resync를 보냅니다.
+ */
+@Component
+public class ArticleEventFeed implements ArticleChangeSubscriber {
+
+    private final Entry[] ring;
+    // 다음 세 필드는 this로 동기화
+    private long appended; // 링 버퍼에 넣은 전체 이벤트 수
+    private long replayFloor; // 이 ID 이후의 이벤트는 모두 링 버퍼에 있음
+    private long lastId; // 마지막으로 받은 이벤트 ID
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 등록된 구독자 수 (최대치 검사와 등록을 원자적으로 하기 위해 집합 크기와 별도로 유지)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final int dispatchThreads;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutMillis;
+    private final int maxStalledSends;
+    private final LongFunction<SseEmitter> emitterFactory;
+    private int stalledSends; // 막힌 전송 대신 띄운 스레드 수 (dispatcher로 동기화)
+
+    @Autowired
+    public ArticleEventFeed(@Value("${myhome.article.events.ring-size:1024}") int ringSize,
+                            @Value("${myhome.article.events.subscriber-buffer:256}") int subscriberBuffer,
+                            @Value("${myhome.article.events.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${myhome.article.events.dispatch-threads:4}") int dispatchThreads,
+                            @Value("${myhome.article.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                            @Value("${myhome.article.events.send-timeout-ms:5000}") long sendTimeoutMillis,
+                            @Value("${myhome.article.events.max-stalled-sends:64}") int maxStalledSends) {
+        this(ringSize, subscriberBuffer, maxSubscribers, dispatchThreads, emitterTimeoutMillis,
+                sendTimeoutMillis, maxStalledSends, SseEmitter::new);
+    }
+
+    // 테스트에서 전송 동작을 바꾼 SseEmitter를 쓰기 위한 생성자
+    ArticleEventFeed(int ringSize, int subscriberBuffer, int maxSubscribers, int dispatchThreads,
+                     long emitterTimeoutMillis, long sendTimeoutMillis, int maxStalledSends,
+                     LongFunction<SseEmitter> emitterFactory) {
+        if (ringSize <= 0 || subscriberBuffer <= 0 || dispatchThreads <= 0) {
+            throw new IllegalArgumentException("ring-size, subscriber-buffer, dispatch-threads는 0보다 커야 합니다.");
+        }
+        this.ring = new Entry[ringSize];
+        this.dispatchThreads = dispatchThreads;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxStalledSends = Math.max(0, maxStalledSends);
+        this.emitterFactory = emitterFactory;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-events-");
+        threadFactory.setDaemon(true);
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    @Override
+    public String getSubscriberName() {
+        return "article-event-feed";
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false; // 놓친 이벤트는 resync로 처리
+    }
+
+    @Override
+    public synchronized void onStart(long position) {
+        replayFloor = Math.max(replayFloor, position);
+        lastId = Math.max(lastId, position);
+    }
+
+    /**
+     * 이벤트를 링 버퍼에 기록하고 모든 구독자 큐에 넣습니다. 전송을 기다리지 않습니다.
+     * 링 버퍼 적재와 구독자 큐 적재를 같은 락 안에서 하여 모든 구독자가 같은 순서로 받도록 합니다.
+     */
+    @Override
+    public synchronized void onArticleChanges(List<ArticleOutboxEvent> events) {
+        for (ArticleOutboxEvent event : events) {
+            if (event.getId() <= lastId) {
+                continue; // 재전달된 이벤트
+            }
+            int slot = (int) (appended++ % ring.length);
+            if (ring[slot] != null) {
+                // 덮어쓴 이벤트까지는 더 이상 재전송할 수 없음
+                replayFloor = Math.max(replayFloor, ring[slot].id);
+            }
+            Entry entry = new Entry(event.getId(), event.getPayload());
+            ring[slot] = entry;
+            lastId = entry.id;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        }
+    }
+
+    /**
+     * 늦게 커밋된 이벤트는 이미 보낸 ID보다 작아 순서대로 끼워 넣을 수 없으므로, 모든 구독자에게 resync를 보내고
+     * 지금까지의 ID로 재연결하는 클라이언트도 재전송 대신 resync를 받도록 합니다.
+     */
+    @Override
+    public synchronized void onLateArticleChanges(List<ArticleOutboxEvent> events) {
+        replayFloor = lastId + 1; // 마지막 ID로 재연결해도 놓친 이벤트가 있을 수 있음
+        Entry resync = new Entry(lastId, null); // 이미 큐에 있는 이벤트 뒤에 보냄
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(resync);
+        }
+    }
+
+    /**
+     * 새 구독자를 등록합니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
+     * @return SSE 연결 (구독자 수가 최대치이면 빈 Optional)
+     */
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = emitterFactory.apply(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::release);
+        emitter.onTimeout(subscriber::release);
+        emitter.onError(e -> subscriber.release());
+
+        // 재전송과 등록을 같은 락 안에서 하여 이벤트가 빠지거나 중복되지 않도록 함
+        synchronized (this) {
+            if (lastEventId != null) {
+                long after = parseId(lastEventId);
+                if (after < replayFloor || after > lastId) {
+                    subscriber.requestResync(lastId);
+                } else {
+                    long first = Math.max(0, appended - ring.length);
+                    for (long i = first; i < appended; i++) {
+                        Entry entry = ring[(int) (i % ring.length)];
+                        if (entry.id > after) {
+                            subscriber.offer(entry);
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+            if (subscriber.released.get()) {
+                subscribers.remove(subscriber); // 등록 전에 연결이 끝남
+            }
+        }
+        return Optional.of(emitter);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 한 번의 전송이 send-timeout-ms를 넘긴 구독자를 구독에서 제외하고, 막힌 전송 스레드 대신 스레드를 하나 더 띄웁니다.
+     * 막힌 스레드는 전송이 끝나면(보통 컨테이너 쓰기 타임아웃으로 실패) 풀 크기를 원래대로 돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${myhome.article.events.stall-check-ms:1000}")
+    public void disconnectStalled() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since > 0 && now - since > sendTimeoutMillis) {
+                subscriber.markStalled();
+            }
+        }
+    }
+
+    // 막힌 전송 하나만큼 전송 스레드를 늘림 (최대 max-stalled-sends)
+    private boolean growDispatcher() {
+        synchronized (dispatcher) {
+            if (stalledSends >= maxStalledSends || dispatcher.isShutdown()) {
+                return false;
+            }
+            stalledSends++;
+            int size = dispatchThreads + stalledSends;
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size); // 대기 중인 작업이 있으면 바로 새 스레드가 가져감
+            return true;
+        }
+    }
+
+    private void shrinkDispatcher() {
+        synchronized (dispatcher) {
+            if (stalledSends == 0 || dispatcher.isShutdown()) {
+                return;
+            }
+            stalledSends--;
+            int size = dispatchThreads + stalledSends;
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    // 현재 전송 스레드 수 상한 (테스트용)
+    int getDispatcherPoolSize() {
+        return dispatcher.getCorePoolSize();
+    }
+
+    // 연결 유지와 끊어진 연결 정리를 위해 주기적으로 주석 한 줄을 보냄
+    @Scheduled(fixedDelayString = "${myhome.article.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::requestHeartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    // 형식이 다른 ID는 -1 (resync 대상)
+    private static long parseId(String eventId) {
+        try {
+            return Long.parseLong(eventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // json이 null이면 resync
+    private record Entry(long id, String json) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Entry> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        // 큐가 넘친 시점의 이벤트 ID (resync를 보낼 필요가 없으면 -1)
+        private final AtomicLong resyncAt = new AtomicLong(-1);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        // 한 번의 전송이 send-timeout-ms를 넘겨 감시 작업이 제외한 구독자
+        private volatile boolean stalled;
+        // 아래 두 필드는 이 객체로 동기화
+        private boolean compensated; // 이 구독자 때문에 전송 스레드를 늘렸는지
+        private boolean settled; // 막혔던 전송의 뒷정리를 마쳤는지
+        private volatile long sendingSince; // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+        private volatile boolean heartbeat;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 구독 해제 (여러 경로에서 호출되어도 구독자 수는 한 번만 줄임)
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        private void offer(Entry entry) {
+            if (!queue.offer(entry)) {
+                // 느린 구독자: 밀린 이벤트를 버리고 resync로 대체
+                queue.clear();
+                resyncAt.set(entry.id);
+            }
+            schedule();
+        }
+
+        private void requestResync(long id) {
+            resyncAt.set(id);
+            schedule();
+        }
+
+        private void requestHeartbeat() {
+            heartbeat = true;
+            schedule();
+        }
+
+        // 구독자마다 전송 작업은 한 번에 하나만 실행되도록 함
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false); // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                long resync = resyncAt.getAndSet(-1);
+                if (resync >= 0) {
+                    send(SseEmitter.event().id(String.valueOf(resync)).name("resync").data(""));
+                }
+                Entry entry;
+                while (!stalled && (entry = queue.poll()) != null) {
+                    send(entry.json != null
+                            ? SseEmitter.event().id(String.valueOf(entry.id)).name("article").data(entry.json)
+                            : SseEmitter.event().id(String.valueOf(entry.id)).name("resync").data(""));
+                }
+                if (heartbeat && !stalled) {
+                    heartbeat = false;
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊겼거나 이미 완료된 구독자
+                release();
+                queue.clear();
+                return;
+            } finally {
+                scheduled.set(false);
+                if (stalled) {
+                    settleStall();
+                }
+            }
+            if (!stalled && (!queue.isEmpty() || resyncAt.get() >= 0 || heartbeat)) {
+                schedule();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendingSince = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                sendingSince = 0;
+            }
+        }
+
+        // 감시 작업에서 호출: 구독에서 제외하고 막힌 스레드 대신 전송 스레드를 하나 늘림
+        private synchronized void markStalled() {
+            if (stalled) {
+                return;
+            }
+            stalled = true;
+            release();
+            compensated = growDispatcher();
+        }
+
+        // 막혔던 전송이 끝난 뒤 한 번만: 늘린 스레드를 돌려놓고 연결을 닫음
+        private synchronized void settleStall() {
+            if (settled) {
+                return;
+            }
+            settled = true;
+            queue.clear();
+            if (compensated) {
+                shrinkDispatcher();
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료됨
+            }
+        }
+    }
+}
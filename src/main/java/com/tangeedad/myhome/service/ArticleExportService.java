@@ -0,0 +1,91 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+
+/**
+ * ArticleExportService는 전체 게시글을 ArticleDisplayDto 형식의 NDJSON으로 내보냅니다. 목록과 달리 요약과 함께 본문도 포함합니다.
+ *
+ * OFFSET 대신 id 기준 키셋 청크로 나누어 청크마다 짧은 자동 커밋 쿼리를 실행하므로 긴 트랜잭션을 잡지 않습니다.
+ * 각 청크는 fetch size를 지정한 전진 전용 JDBC 커서로 읽으며, 엔티티를 만들지 않고 행을 읽는 즉시
+ * JsonGenerator로 출력하므로 힙 사용량은 전체 게시글 수와 무관하게 일정합니다.
+ */
+@Service
+public class ArticleExportService {
+
+    private static final String CHUNK_QUERY =
+            "SELECT a.id, a.title, a.summary, a.content, a.reg_date, a.read_count, u.username " +
+            "FROM articles a LEFT JOIN users u ON u.id = a.user_id " +
+            "WHERE a.id > ? ORDER BY a.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ArticleExportService(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${myhome.article.export.chunk-size:10000}") int chunkSize,
+                                @Value("${myhome.article.export.fetch-size:500}") int fetchSize) {
+        // 내보내기 전용 JdbcTemplate (공유 템플릿의 fetch size를 바꾸지 않도록 복사)
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 모든 게시글을 id 오름차순으로 한 줄에 하나씩 출력합니다.
+     *
+     * @param outputStream 응답 스트림
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력 중 오류 발생 시
+     */
+    public long exportArticles(OutputStream outputStream) throws IOException {
+        long exported = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            ArticleDisplayDto row = new ArticleDisplayDto(); // 행마다 재사용
+            long lastId = 0;
+            while (true) {
+                long[] cursor = {lastId, 0};
+                try {
+                    jdbcTemplate.query(CHUNK_QUERY, rs -> {
+                        row.setId(rs.getLong(1));
+                        row.setTitle(rs.getString(2));
+                        row.setSummary(rs.getString(3));
+                        row.setContent(rs.getString(4));
+                        Timestamp regDate = rs.getTimestamp(5);
+                        row.setRegDate(regDate != null ? regDate.toLocalDateTime() : null);
+                        row.setReadCount(rs.getLong(6));
+                        row.setUserName(rs.getString(7));
+                        try {
+                            generator.writeObject(row);
+                            generator.writeRaw('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        cursor[0] = row.getId();
+                        cursor[1]++;
+                    }, lastId, chunkSize);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.flush();
+                exported += cursor[1];
+                if (cursor[1] < chunkSize) {
+                    return exported;
+                }
+                lastId = cursor[0];
+            }
+        }
+    }
+}
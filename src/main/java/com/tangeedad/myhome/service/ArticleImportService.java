@@ -0,0 +1,346 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleImportResult;
+import com.tangeedad.myhome.dto.FileDto;
+import com.tangeedad.myhome.entity.Article;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.tangeedad.myhome.util.ArticleSummarizer.summarize;
+
+/**
+ * ArticleImportService는 레거시 게시판 데이터를 NDJSON으로 받아 게시글과 첨부파일을 일괄 등록합니다.
+ *
+ * 엔티티의 IDENTITY 전략은 Hibernate의 INSERT 배치를 막으므로 JDBC로 직접 다중 행 INSERT를 실행합니다.
+ * InnoDB는 auto-increment 잠금 모드가 0 또는 1이면 다중 행 INSERT 한 문장에 연속된 ID 블록을 할당하므로,
+ * 첫 번째 생성 키와 auto_increment_increment로 나머지 ID를 계산하여 첨부파일의 article_id에 사용합니다.
+ * 잠금 모드가 2(interleaved)면 ID가 연속이라는 보장이 없으므로 게시글은 한 행씩 INSERT합니다.
+ *
+ * 배치마다 따로 커밋합니다. 배치가 실패하면 그 배치의 행을 한 행씩 다시 등록하여 실패한 행만 행 번호와 함께 거부하고,
+ * 입력을 끝까지 읽지 못하면 그때까지 커밋된 수와 중단 이유를 결과에 담아 반환합니다.
+ */
+@Service
+public class ArticleImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleImportService.class);
+
+    private static final String ARTICLE_COLUMNS =
+            "INSERT INTO articles (user_id, title, content, summary, start_date, end_date, read_count) VALUES ";
+    private static final String ARTICLE_VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String FILE_COLUMNS =
+            "INSERT INTO article_files (article_id, file_name, file_path, file_size, file_type, upload_date, uploaded_by) VALUES ";
+    private static final String FILE_VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+    // MariaDB 프리페어드 문장의 최대 파라미터 수
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ActiveArticleIndex activeArticleIndex;
+    private final ArticleOutbox articleOutbox;
+    private final int batchSize;
+    private final int summaryLength;
+
+    // auto-increment 설정 (최초 사용 시 조회)
+    private volatile IdBlockMode idBlockMode;
+
+    public ArticleImportService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                ActiveArticleIndex activeArticleIndex,
+                                ArticleOutbox articleOutbox,
+                                @Value("${myhome.article.import.batch-size:1000}") int batchSize,
+                                @Value("${myhome.article.summary-length:100}") int summaryLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.activeArticleIndex = activeArticleIndex;
+        this.articleOutbox = articleOutbox;
+        // 첨부파일 한 행의 파라미터가 7개이므로 한 문장이 파라미터 한도를 넘지 않도록 제한
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_PLACEHOLDERS / 7));
+        this.summaryLength = Math.min(summaryLength, Article.SUMMARY_MAX_LENGTH);
+    }
+
+    /**
+     * NDJSON 입력의 게시글을 일괄 등록합니다. 한 줄에 ArticleDto 형식의 게시글 하나를 받습니다.
+     *
+     * @param input 요청 본문
+     * @param userId 작성자 ID
+     * @return 등록 결과 요약 (입력을 끝까지 읽지 못했으면 isAborted()가 true)
+     */
+    public ArticleImportResult importArticles(InputStream input, Long userId) {
+        ArticleImportResult result = new ArticleImportResult();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Pending> batch = new ArrayList<>(batchSize);
+        String line;
+        long lineNumber = 0;
+
+        while ((line = readLine(reader, result)) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ArticleDto article;
+            try {
+                article = objectMapper.readValue(line, ArticleDto.class);
+            } catch (JsonProcessingException e) {
+                result.reject(lineNumber, "행을 해석할 수 없습니다.");
+                continue;
+            }
+            String error = validate(article);
+            if (error != null) {
+                result.reject(lineNumber, error);
+                continue;
+            }
+            batch.add(new Pending(lineNumber, article));
+            if (batch.size() == batchSize) {
+                insertBatch(batch, userId, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty() && !result.isAborted()) {
+            insertBatch(batch, userId, result);
+        }
+        return result;
+    }
+
+    // 읽기 실패 시 중단 이유를 남기고 null을 반환 (이미 커밋된 배치는 그대로 둠)
+    private static String readLine(BufferedReader reader, ArticleImportResult result) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            result.abort("입력을 끝까지 읽지 못했습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ArticleValidator와 같은 기준이지만, 이미 종료된 레거시 게시글도 옮길 수 있도록 종료일은 검사하지 않음
+    private String validate(ArticleDto article) {
+        if (article.getTitle() == null || article.getTitle().trim().length() < 2 || article.getTitle().length() > 30) {
+            return "제목은 2자 이상 30자 이하여야 합니다.";
+        }
+        if (article.getContent() == null || article.getContent().trim().isEmpty()) {
+            return "내용을 입력하세요.";
+        }
+        if (article.getContent().codePointCount(0, article.getContent().length()) > Article.CONTENT_MAX_LENGTH) {
+            return "내용은 " + Article.CONTENT_MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        if (article.getStartDate() != null && article.getEndDate() != null
+                && article.getStartDate().isAfter(article.getEndDate())) {
+            return "시작일은 종료일보다 이후일 수 없습니다.";
+        }
+        if (article.getFiles() != null) {
+            for (FileDto file : article.getFiles()) {
+                if (file.getFileName() == null || file.getFilePath() == null) {
+                    return "첨부파일의 이름과 경로를 확인하세요.";
+                }
+            }
+        }
+        return null;
+    }
+
+    // 배치가 실패하면 한 행씩 다시 시도하여 실패한 행만 거부
+    private void insertBatch(List<Pending> batch, Long userId, ArticleImportResult result) {
+        try {
+            insert(batch.stream().map(Pending::article).toList(), userId, result);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.debug("{}행 게시글을 등록하지 못했습니다: {}", batch.get(0).line, e.getMessage());
+                result.reject(batch.get(0).line, "게시글을 저장하지 못했습니다.");
+                return;
+            }
+            log.debug("게시글 {}건의 배치 등록이 실패하여 한 행씩 다시 등록합니다: {}", batch.size(), e.getMessage());
+            for (Pending row : batch) {
+                insertBatch(List.of(row), userId, result);
+            }
+        }
+    }
+
+    private void insert(List<ArticleDto> articles, Long userId, ArticleImportResult result) {
+        IdBlockMode mode = idBlockMode();
+        BatchResult inserted = transactionTemplate.execute(status -> {
+            BatchResult batch = jdbcTemplate.execute((ConnectionCallback<BatchResult>) connection -> {
+                long[] ids = mode.consecutive
+                        ? insertArticlesAsBlock(connection, articles, userId, mode.increment)
+                        : insertArticlesOneByOne(connection, articles, userId);
+                return new BatchResult(ids, insertFiles(connection, articles, ids));
+            });
+            articleOutbox.appendAll(createdEvents(articles, batch.ids));
+            return batch;
+        });
+        result.addImported(articles.size(), inserted.files);
+
+        // 커밋된 게시글을 활성 게시글 색인에 반영
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleDto article = articles.get(i);
+            activeArticleIndex.upsert(inserted.ids[i], article.getStartDate(), article.getEndDate());
+        }
+    }
+
+    private static List<ArticleEvent> createdEvents(List<ArticleDto> articles, long[] ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ArticleEvent> events = new ArrayList<>(articles.size());
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleDto article = articles.get(i);
+            events.add(new ArticleEvent(ArticleEvent.Type.CREATED, ids[i], article.getTitle(),
+                    article.getStartDate(), article.getEndDate(), now));
+        }
+        return events;
+    }
+
+    // 다중 행 INSERT 한 문장으로 게시글을 넣고, 할당된 연속 ID 블록을 계산
+    private long[] insertArticlesAsBlock(Connection connection, List<ArticleDto> articles, Long userId, long increment)
+            throws SQLException {
+        String sql = ARTICLE_COLUMNS + String.join(", ", Collections.nCopies(articles.size(), ARTICLE_VALUES));
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (ArticleDto article : articles) {
+                index = bindArticle(statement, index, article, userId);
+            }
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new SQLException("생성된 게시글 ID를 확인할 수 없습니다.");
+                }
+                long firstId = keys.getLong(1);
+                long[] ids = new long[articles.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = firstId + i * increment;
+                }
+                return ids;
+            }
+        }
+    }
+
+    private long[] insertArticlesOneByOne(Connection connection, List<ArticleDto> articles, Long userId)
+            throws SQLException {
+        long[] ids = new long[articles.size()];
+        try (PreparedStatement statement = connection.prepareStatement(
+                ARTICLE_COLUMNS + ARTICLE_VALUES, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ids.length; i++) {
+                bindArticle(statement, 1, articles.get(i), userId);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    ids[i] = keys.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private int bindArticle(PreparedStatement statement, int index, ArticleDto article, Long userId) throws SQLException {
+        statement.setLong(index++, userId);
+        statement.setString(index++, article.getTitle());
+        statement.setString(index++, article.getContent());
+        statement.setString(index++, summarize(article.getContent(), summaryLength));
+        statement.setTimestamp(index++, toTimestamp(article.getStartDate()));
+        statement.setTimestamp(index++, toTimestamp(article.getEndDate()));
+        statement.setLong(index++, article.getReadCount());
+        return index;
+    }
+
+    // 첨부파일은 ID가 필요 없으므로 batchSize 단위의 다중 행 INSERT로 넣음
+    private long insertFiles(Connection connection, List<ArticleDto> articles, long[] articleIds) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            List<FileDto> files = articles.get(i).getFiles();
+            if (files == null) {
+                continue;
+            }
+            for (FileDto file : files) {
+                rows.add(new Object[]{
+                        articleIds[i],
+                        file.getFileName(),
+                        file.getFilePath(),
+                        file.getFileSize() != null ? file.getFileSize() : 0L,
+                        file.getFileType() != null ? file.getFileType() : "application/octet-stream",
+                        toTimestamp(file.getUploadDate() != null ? file.getUploadDate() : LocalDateTime.now()),
+                        file.getUploadedBy()
+                });
+            }
+        }
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + batchSize));
+            String sql = FILE_COLUMNS + String.join(", ", Collections.nCopies(chunk.size(), FILE_VALUES));
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (Object[] row : chunk) {
+                    for (Object value : row) {
+                        statement.setObject(index++, value);
+                    }
+                }
+                statement.executeUpdate();
+            }
+        }
+        return rows.size();
+    }
+
+    private IdBlockMode idBlockMode() {
+        IdBlockMode mode = idBlockMode;
+        if (mode == null) {
+            try {
+                Map<String, Object> settings = jdbcTemplate.queryForMap(
+                        "SELECT @@innodb_autoinc_lock_mode AS lock_mode, @@auto_increment_increment AS increment");
+                long lockMode = ((Number) settings.get("lock_mode")).longValue();
+                long increment = ((Number) settings.get("increment")).longValue();
+                mode = new IdBlockMode(lockMode < 2, increment);
+                if (!mode.consecutive) {
+                    log.warn("innodb_autoinc_lock_mode={} 이므로 게시글을 한 행씩 등록합니다.", lockMode);
+                }
+            } catch (DataAccessException e) {
+                log.warn("auto-increment 설정을 확인하지 못해 게시글을 한 행씩 등록합니다: {}", e.getMessage());
+                mode = new IdBlockMode(false, 1);
+            }
+            idBlockMode = mode;
+        }
+        return mode;
+    }
+
+    // auto-increment 설정 조회 결과를 지정 (설정을 조회할 수 없는 테스트 DB용)
+    void setIdBlockMode(boolean consecutive, long increment) {
+        this.idBlockMode = new IdBlockMode(consecutive, increment);
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private record Pending(long line, ArticleDto article) {
+    }
+
+    private record IdBlockMode(boolean consecutive, long increment) {
+    }
+
+    private record BatchResult(long[] ids, long files) {
+    }
+}
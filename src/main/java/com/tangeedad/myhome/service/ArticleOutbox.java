@@ -0,0 +1,83 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.util.AfterCommit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ArticleOutbox는 게시글 변경 이벤트를 변경과 같은 트랜잭션에서 article_outbox 테이블에 기록합니다.
+ *
+ * 이벤트는 변경이 커밋될 때만 함께 남고 롤백되면 함께 사라지며, 커밋 후에는 ArticleOutboxRelay를 깨워
+ * 다음 폴링 주기를 기다리지 않고 구독자에게 전달되도록 합니다.
+ */
+@Component
+public class ArticleOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO article_outbox (article_id, event_type, payload) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ArticleOutboxRelay relay;
+
+    public ArticleOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, ArticleOutboxRelay relay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /**
+     * 현재 트랜잭션에 이벤트를 기록합니다.
+     *
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public void append(ArticleEvent event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * 현재 트랜잭션에 이벤트를 순서대로 한 번의 배치 INSERT로 기록합니다.
+     *
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public void appendAll(List<ArticleEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("게시글 이벤트는 변경과 같은 트랜잭션 안에서 기록해야 합니다.");
+        }
+
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ArticleEvent event : events) {
+            rows.add(new Object[]{event.getArticleId(), event.getType().name(), toJson(event)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        AfterCommit.run(relay::wakeUp);
+    }
+
+    /**
+     * 마지막으로 기록된 이벤트 ID를 반환합니다. PK의 최댓값만 읽으므로 테이블 크기와 무관합니다.
+     *
+     * @return 마지막 이벤트 ID (없으면 0)
+     */
+    public long headId() {
+        Long head = jdbcTemplate.queryForObject("SELECT MAX(id) FROM article_outbox", Long.class);
+        return head != null ? head : 0;
+    }
+
+    private String toJson(ArticleEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 이벤트를 JSON으로 변환하지 못했습니다. articleId=" + event.getArticleId(), e);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * ArticleOutboxRelay는 article_outbox에 기록된 게시글 변경 이벤트를 ID 순서대로 읽어 프로세스 내 구독자에게 전달합니다.
+ *
+ * 모든 구독자 중 가장 뒤처진 위치부터 batch-size건씩 읽고, 구독자마다 자기 위치 이후의 이벤트만 한 번의 호출로 넘깁니다.
+ * ID 순서가 곧 커밋된 변경의 순서이므로 같은 게시글의 이벤트는 항상 발생 순서대로 전달됩니다.
+ * 영속 구독자의 위치는 article_outbox_offsets에 (구독자 이름, 인스턴스 ID)로 저장하여, 재시작 후 내려가 있던 동안의
+ * 이벤트부터 이어서 전달합니다. 나머지 구독자는 시작할 때 현재 마지막 이벤트 이후부터 받습니다.
+ * 오래된 이벤트는 저장된 모든 위치와 이 인스턴스의 위치가 지난 것만 삭제하며, retention-hours 동안 갱신되지 않은
+ * 위치(없어진 인스턴스)는 삭제 범위를 막지 않도록 지웁니다.
+ *
+ * 먼저 ID를 받은 트랜잭션이 나중에 커밋되면 ID 사이에 빈자리가 생기므로, 빈자리 뒤의 이벤트는 릴레이가 빈자리를
+ * 처음 본 뒤 gap-timeout-ms가 지날 때까지 전달을 미룹니다. 그래도 채워지지 않으면 넘어가되 빠진 ID를 기억해 두고
+ * gap-recheck-ms 동안 다시 조회하여, 늦게 커밋된 이벤트는 ArticleChangeSubscriber.onLateArticleChanges로 전달합니다.
+ */
+@Component
+public class ArticleOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleOutboxRelay.class);
+
+    private static final String SELECT_COLUMNS = "SELECT id, article_id, event_type, payload FROM article_outbox ";
+    private static final String SELECT_SQL = SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?";
+    private static final RowMapper<ArticleOutboxEvent> EVENT_MAPPER = (rs, rowNum) -> new ArticleOutboxEvent(
+            rs.getLong("id"), rs.getLong("article_id"),
+            ArticleEvent.Type.valueOf(rs.getString("event_type")), rs.getString("payload"));
+    private static final String UPDATE_OFFSET_SQL =
+            "UPDATE article_outbox_offsets SET last_id = ?, updated_at = ? WHERE subscriber = ? AND instance_id = ?";
+    private static final String INSERT_OFFSET_SQL =
+            "INSERT INTO article_outbox_offsets (subscriber, instance_id, last_id, updated_at) VALUES (?, ?, ?, ?)";
+    private static final int PURGE_BATCH_SIZE = 10000;
+    // 다시 조회할 빠진 ID의 최대 개수 (넘으면 오래된 것부터 포기)
+    private static final int MAX_SKIPPED_IDS = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Cursor> cursors = new ArrayList<>();
+    private final boolean enabled;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long gapRecheckMillis;
+    private final int retentionHours;
+    private final String instanceId;
+    private final LongSupplier clock;
+    private final ExecutorService wakeUpExecutor;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    // 아래 두 맵은 relay()의 락으로 보호
+    // 빈자리 바로 앞 ID -> 릴레이가 그 빈자리를 처음 본 시각
+    private final Map<Long, Long> gapsSeenAt = new HashMap<>();
+    // 넘어간 빈자리의 ID -> 넘어간 시각 (넘어간 순서대로)
+    private final LinkedHashMap<Long, Long> skippedIds = new LinkedHashMap<>();
+
+    private volatile boolean started;
+    private long increment = 1; // @@auto_increment_increment
+
+    @Autowired
+    public ArticleOutboxRelay(JdbcTemplate jdbcTemplate,
+                              List<ArticleChangeSubscriber> subscribers,
+                              @Value("${myhome.article.outbox.enabled:true}") boolean enabled,
+                              @Value("${myhome.article.outbox.batch-size:500}") int batchSize,
+                              @Value("${myhome.article.outbox.gap-timeout-ms:5000}") long gapTimeoutMillis,
+                              @Value("${myhome.article.outbox.gap-recheck-ms:600000}") long gapRecheckMillis,
+                              @Value("${myhome.article.outbox.retention-hours:24}") int retentionHours,
+                              @Value("${myhome.article.outbox.instance-id:}") String instanceId) {
+        this(jdbcTemplate, subscribers, enabled, batchSize, gapTimeoutMillis, gapRecheckMillis, retentionHours,
+                instanceId.isBlank() ? hostName() : instanceId, System::currentTimeMillis);
+    }
+
+    // 테스트에서 인스턴스 ID와 시각을 직접 정하기 위한 생성자
+    ArticleOutboxRelay(JdbcTemplate jdbcTemplate, List<ArticleChangeSubscriber> subscribers, boolean enabled,
+                       int batchSize, long gapTimeoutMillis, long gapRecheckMillis, int retentionHours,
+                       String instanceId, LongSupplier clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        subscribers.forEach(subscriber -> cursors.add(new Cursor(subscriber, instanceId)));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.gapRecheckMillis = gapRecheckMillis;
+        this.retentionHours = retentionHours;
+        this.instanceId = instanceId;
+        this.clock = clock;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("article-outbox-");
+        threadFactory.setDaemon(true);
+        this.wakeUpExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            start();
+        } catch (DataAccessException e) {
+            log.warn("게시글 이벤트 릴레이를 시작하지 못했습니다. 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독자별 시작 위치를 정합니다.
+     * 저장된 위치가 있는 영속 구독자는 그 위치부터, 나머지는 현재 마지막 이벤트 이후부터 받습니다.
+     * 저장된 위치 뒤의 이벤트가 이미 삭제되었으면 남아 있는 가장 오래된 이벤트부터 받습니다.
+     */
+    public synchronized void start() {
+        increment = jdbcTemplate.queryForObject("SELECT @@auto_increment_increment", Long.class);
+        long head = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM article_outbox", Long.class);
+        Map<String, Long> offsets = new HashMap<>();
+        if (cursors.stream().anyMatch(cursor -> cursor.subscriber.isDurable())) {
+            jdbcTemplate.query("SELECT subscriber, instance_id, last_id FROM article_outbox_offsets " +
+                            "WHERE instance_id IN (?, '')",
+                    rs -> {
+                        offsets.put(offsetKey(rs.getString("subscriber"), rs.getString("instance_id")),
+                                rs.getLong("last_id"));
+                    }, instanceId);
+        }
+        long oldest = offsets.isEmpty() ? 0
+                : jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 0) FROM article_outbox", Long.class);
+
+        for (Cursor cursor : cursors) {
+            ArticleChangeSubscriber subscriber = cursor.subscriber;
+            Long saved = subscriber.isDurable()
+                    ? offsets.get(offsetKey(subscriber.getSubscriberName(), cursor.instanceId))
+                    : null;
+            if (saved == null) {
+                cursor.position = head;
+                if (subscriber.isDurable()) {
+                    saveOffset(cursor);
+                }
+            } else if (oldest > 0 && saved < oldest - increment) {
+                log.warn("구독자 {}의 저장된 위치 {} 뒤의 게시글 이벤트가 이미 삭제되어 {}부터 전달합니다.",
+                        subscriber.getSubscriberName(), saved, oldest);
+                cursor.position = oldest - increment;
+            } else {
+                cursor.position = saved;
+            }
+            subscriber.onStart(cursor.position);
+        }
+        started = true;
+    }
+
+    /**
+     * 커밋 직후 호출되어 다음 폴링을 기다리지 않고 전달합니다. 여러 번 호출되어도 한 번의 전달로 합쳐집니다.
+     */
+    public void wakeUp() {
+        if (!enabled || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            wakeUpExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                relaySafely();
+            });
+        } catch (RejectedExecutionException e) {
+            wakeUpPending.set(false); // 종료 중
+        }
+    }
+
+    // 커밋 알림을 놓친 경우(다른 인스턴스의 변경 등)를 위한 주기적 폴링
+    @Scheduled(fixedDelayString = "${myhome.article.outbox.poll-ms:1000}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relaySafely();
+        }
+    }
+
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (DataAccessException e) {
+            log.warn("게시글 이벤트를 전달하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 전달하지 않은 이벤트를 구독자에게 전달합니다.
+     *
+     * @return 읽어서 전달을 시도한 이벤트 수
+     */
+    public synchronized int relay() {
+        if (cursors.isEmpty()) {
+            return 0;
+        }
+        if (!started) {
+            start();
+        }
+
+        int relayed = recheckSkipped();
+        while (true) {
+            long from = lowestPosition();
+            List<ArticleOutboxEvent> rows = jdbcTemplate.query(SELECT_SQL, EVENT_MAPPER, from, batchSize);
+            List<ArticleOutboxEvent> ready = untilGap(from, rows);
+            if (ready.isEmpty()) {
+                break;
+            }
+
+            for (Cursor cursor : cursors) {
+                deliver(cursor, ready);
+            }
+            relayed += ready.size();
+
+            // 빈자리에서 멈췄거나, 마지막 배치이거나, 실패한 구독자 때문에 더 나아가지 못하면 다음 주기로
+            if (ready.size() < rows.size() || rows.size() < batchSize || lowestPosition() == from) {
+                break;
+            }
+        }
+        // 이미 지나간 위치의 빈자리는 채워졌으므로 잊음
+        long lowest = lowestPosition();
+        gapsSeenAt.keySet().removeIf(previous -> previous < lowest);
+        return relayed;
+    }
+
+    // 다시 조회할 빠진 ID 수 (테스트용)
+    synchronized int getSkippedIdCount() {
+        return skippedIds.size();
+    }
+
+    /**
+     * 보관 시간이 지난 이벤트 중 모든 구독자가 받은 것을 삭제합니다.
+     * 삭제 범위는 이 인스턴스의 구독자 위치와 article_outbox_offsets에 저장된 모든 인스턴스의 위치 중 가장 작은 값까지입니다.
+     * 이 인스턴스의 영속 구독자 위치는 갱신 시각을 새로 기록하여, 이벤트가 없어 위치가 그대로여도 지워지지 않게 합니다.
+     */
+    @Scheduled(initialDelayString = "${myhome.article.outbox.purge-interval-ms:3600000}",
+            fixedDelayString = "${myhome.article.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        if (!enabled || !started) {
+            return;
+        }
+        Timestamp cutoff = new Timestamp(clock.getAsLong() - TimeUnit.HOURS.toMillis(retentionHours));
+        try {
+            long upTo;
+            synchronized (this) {
+                upTo = cursors.isEmpty() ? Long.MAX_VALUE : lowestPosition();
+                for (Cursor cursor : cursors) {
+                    if (cursor.subscriber.isDurable()) {
+                        saveOffset(cursor);
+                    }
+                }
+            }
+            // 보관 시간 동안 갱신되지 않은 위치는 없어진 인스턴스의 것
+            jdbcTemplate.update("DELETE FROM article_outbox_offsets WHERE updated_at < ?", cutoff);
+            Long stored = jdbcTemplate.queryForObject("SELECT MIN(last_id) FROM article_outbox_offsets", Long.class);
+            if (stored != null) {
+                upTo = Math.min(upTo, stored);
+            }
+
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(
+                        "DELETE FROM article_outbox WHERE id <= ? AND created_at < ? LIMIT ?",
+                        upTo, cutoff, PURGE_BATCH_SIZE);
+            } while (deleted == PURGE_BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("오래된 게시글 이벤트를 삭제하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+    }
+
+    // 바로 앞 ID에서 increment만큼 떨어지지 않은 행은 빈자리를 처음 본 뒤 gap-timeout-ms가 지나야 전달
+    private List<ArticleOutboxEvent> untilGap(long from, List<ArticleOutboxEvent> rows) {
+        List<ArticleOutboxEvent> ready = new ArrayList<>(rows.size());
+        long now = clock.getAsLong();
+        long previous = from;
+        for (ArticleOutboxEvent row : rows) {
+            long id = row.getId();
+            if (previous > 0 && id != previous + increment) {
+                long seenAt = gapsSeenAt.computeIfAbsent(previous, key -> now);
+                if (now - seenAt < gapTimeoutMillis) {
+                    break;
+                }
+                gapsSeenAt.remove(previous);
+                skip(previous, id, now);
+            }
+            skippedIds.remove(id); // 다른 구독자 때문에 다시 읽는 중에 채워진 빈자리
+            ready.add(row);
+            previous = id;
+        }
+        return ready;
+    }
+
+    // previous와 next 사이의 ID를 롤백되었거나 아직 커밋되지 않은 것으로 보고 기억해 둠
+    private void skip(long previous, long next, long now) {
+        long missing = (next - previous) / increment - 1;
+        if (missing > MAX_SKIPPED_IDS) {
+            log.warn("게시글 이벤트 ID {}~{} 사이의 빈자리가 너무 커서 마지막 {}개만 다시 확인합니다.",
+                    previous, next, MAX_SKIPPED_IDS);
+        }
+        long first = Math.max(previous + increment, next - increment * MAX_SKIPPED_IDS);
+        for (long id = first; id < next; id += increment) {
+            skippedIds.put(id, now);
+        }
+        Iterator<Long> oldest = skippedIds.keySet().iterator();
+        while (skippedIds.size() > MAX_SKIPPED_IDS) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * 넘어갔던 빈자리를 다시 조회하여 늦게 커밋된 이벤트를 전달합니다. gap-recheck-ms가 지난 빈자리는 포기합니다.
+     * 전달에 실패한 구독자가 있으면 그 ID를 남겨 두고 다음 주기에 모든 구독자에게 다시 전달합니다(최소 한 번 전달).
+     *
+     * @return 뒤늦게 전달한 이벤트 수
+     */
+    private int recheckSkipped() {
+        long now = clock.getAsLong();
+        skippedIds.values().removeIf(skippedAt -> now - skippedAt >= gapRecheckMillis);
+        if (skippedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(skippedIds.keySet());
+        List<ArticleOutboxEvent> late = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            List<Long> chunk = ids.subList(i, Math.min(i + batchSize, ids.size()));
+            String sql = SELECT_COLUMNS + "WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            late.addAll(jdbcTemplate.query(sql, EVENT_MAPPER, chunk.toArray()));
+        }
+        if (late.isEmpty()) {
+            return 0;
+        }
+        late.sort(Comparator.comparingLong(ArticleOutboxEvent::getId));
+
+        boolean delivered = true;
+        for (Cursor cursor : cursors) {
+            // 아직 위치가 그 ID에 이르지 않은 구독자는 평소 순서대로 받음
+            List<ArticleOutboxEvent> passed = late.stream()
+                    .filter(event -> event.getId() <= cursor.position)
+                    .toList();
+            if (passed.isEmpty()) {
+                continue;
+            }
+            try {
+                cursor.subscriber.onLateArticleChanges(passed);
+            } catch (RuntimeException e) {
+                delivered = false;
+                log.warn("구독자 {}에게 늦게 커밋된 게시글 이벤트를 전달하지 못했습니다. 다음 주기에 다시 전달합니다: {}",
+                        cursor.subscriber.getSubscriberName(), e.getMessage());
+            }
+        }
+        if (delivered) {
+            late.forEach(event -> skippedIds.remove(event.getId()));
+            log.info("빈자리로 넘어갔던 게시글 이벤트 {}건이 늦게 커밋되어 전달했습니다.", late.size());
+        }
+        return late.size();
+    }
+
+    private void deliver(Cursor cursor, List<ArticleOutboxEvent> events) {
+        List<ArticleOutboxEvent> pending = events.stream()
+                .filter(event -> event.getId() > cursor.position)
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        ArticleChangeSubscriber subscriber = cursor.subscriber;
+        try {
+            subscriber.onArticleChanges(pending);
+        } catch (RuntimeException e) {
+            log.warn("구독자 {}에게 게시글 이벤트를 전달하지 못했습니다. 다음 주기에 다시 전달합니다: {}",
+                    subscriber.getSubscriberName(), e.getMessage());
+            return;
+        }
+        cursor.position = pending.get(pending.size() - 1).getId();
+        if (subscriber.isDurable()) {
+            try {
+                saveOffset(cursor);
+            } catch (DataAccessException e) {
+                // 메모리의 위치는 이미 옮겼으므로 다음 전달 때 함께 저장됨 (재시작하면 일부를 다시 받음)
+                log.warn("구독자 {}의 위치를 저장하지 못했습니다: {}", subscriber.getSubscriberName(), e.getMessage());
+            }
+        }
+    }
+
+    // 위치와 갱신 시각을 저장 (키에 인스턴스 ID가 들어가므로 같은 행을 두 인스턴스가 동시에 처음 만들지 않음)
+    private void saveOffset(Cursor cursor) {
+        String name = cursor.subscriber.getSubscriberName();
+        Timestamp now = new Timestamp(clock.getAsLong());
+        if (jdbcTemplate.update(UPDATE_OFFSET_SQL, cursor.position, now, name, cursor.instanceId) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_OFFSET_SQL, name, cursor.instanceId, cursor.position, now);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(UPDATE_OFFSET_SQL, cursor.position, now, name, cursor.instanceId);
+            }
+        }
+    }
+
+    private static String offsetKey(String subscriber, String instanceId) {
+        return subscriber + "@" + instanceId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    private long lowestPosition() {
+        long lowest = Long.MAX_VALUE;
+        for (Cursor cursor : cursors) {
+            lowest = Math.min(lowest, cursor.position);
+        }
+        return lowest;
+    }
+
+    private static final class Cursor {
+        private final ArticleChangeSubscriber subscriber;
+        private final String instanceId; // 오프셋 키의 인스턴스 ID (모든 인스턴스가 함께 쓰는 위치는 빈 문자열)
+        private long position; // 마지막으로 전달한 이벤트 ID (relay()의 락으로 보호)
+
+        private Cursor(ArticleChangeSubscriber subscriber, String instanceId) {
+            this.subscriber = subscriber;
+            this.instanceId = subscriber.isPerInstance() ? instanceId : "";
+        }
+    }
+}
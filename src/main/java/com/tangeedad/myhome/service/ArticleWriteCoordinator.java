@@ -0,0 +1,235 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.entity.Article;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ArticleWriteCoordinator는 동시에 들어온 게시글 생성 요청을 모아 한 트랜잭션으로 커밋합니다(그룹 커밋).
+ *
+ * 전용 쓰기 스레드가 첫 요청을 받은 뒤 max-wait-micros 동안 또는 max-batch건이 찰 때까지 요청을 더 모으고,
+ * 모인 게시글을 BoardService.saveArticle로 하나의 트랜잭션 안에서 저장합니다. 커밋과 로그 flush가 요청마다가 아니라
+ * 묶음마다 한 번씩 일어나므로 쓰기가 몰릴 때 처리량이 늘어납니다.
+ * 묶음 트랜잭션이 실패하면 전체를 롤백한 뒤 묶음을 반으로 나누어 다시 저장하고, 한 건만 남으면 개별 트랜잭션으로 저장하여
+ * 각 호출자는 자기 결과나 예외만 받습니다. 실패하는 요청 하나 때문에 쓰기 스레드가 추가로 실행하는 트랜잭션은
+ * 최대 2·log2(max-batch)개이며(64건이면 12개), 같은 묶음의 호출자와 다음 묶음은 그만큼 늦게 결과를 받습니다.
+ * 그래서 저장 전에 알 수 있는 실패(제목이 없거나 제목/내용이 최대 길이를 넘는 경우)는 묶음에 넣지 않고
+ * 호출한 스레드에서 바로 저장합니다.
+ * 비활성화(기본값)되어 있거나 대기열이 가득 차면 호출한 스레드에서 바로 저장합니다.
+ * 호출자는 commit-timeout-ms까지만 기다리며, 그때까지 쓰기 스레드가 요청을 가져가지 않았으면 직접 저장합니다.
+ * 종료할 때 대기열에 남은 요청은 버리지 않고 종료하는 스레드에서 묶음으로 저장합니다.
+ */
+@Component
+public class ArticleWriteCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleWriteCoordinator.class);
+
+    private final BoardService boardService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final long commitTimeoutMillis;
+    private final BlockingQueue<Request> queue;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public ArticleWriteCoordinator(BoardService boardService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${myhome.article.write-coordinator.enabled:false}") boolean enabled,
+                                   @Value("${myhome.article.write-coordinator.max-batch:64}") int maxBatch,
+                                   @Value("${myhome.article.write-coordinator.max-wait-micros:2000}") long maxWaitMicros,
+                                   @Value("${myhome.article.write-coordinator.queue-capacity:4096}") int queueCapacity,
+                                   @Value("${myhome.article.write-coordinator.commit-timeout-ms:10000}") long commitTimeoutMillis) {
+        this.boardService = boardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.commitTimeoutMillis = commitTimeoutMillis;
+
+        if (enabled) {
+            writer = new Thread(this::runWriter, "article-write-coordinator");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+    }
+
+    /**
+     * 새 게시글을 저장하고 커밋될 때까지 기다립니다.
+     *
+     * @param article 저장할 새 게시글 (ID가 없어야 함)
+     * @return 저장된 게시글
+     * @throws IllegalStateException 쓰기 스레드가 요청을 가져간 뒤 commit-timeout-ms 안에 결과가 나오지 않은 경우
+     *                               (이후에 커밋될 수 있음)
+     */
+    public Article create(Article article) {
+        if (article.getId() != null) {
+            throw new IllegalArgumentException("새 게시글만 모아서 저장할 수 있습니다. id=" + article.getId());
+        }
+        if (!enabled || !running || !fitsColumns(article)) {
+            return boardService.saveArticle(article); // 실패할 요청은 묶음을 롤백시키지 않도록 직접 저장
+        }
+
+        Request request = new Request(article);
+        if (!queue.offer(request)) {
+            return boardService.saveArticle(article); // 대기열이 가득 차면 직접 저장
+        }
+        if (!running && queue.remove(request)) {
+            return boardService.saveArticle(article); // 종료와 겹쳐 쓰기 스레드가 처리하지 않을 요청
+        }
+        try {
+            return request.result.get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(request)) {
+                return boardService.saveArticle(article); // 쓰기 스레드가 아직 가져가지 않은 요청
+            }
+            throw new IllegalStateException("게시글 저장이 " + commitTimeoutMillis + "ms 안에 끝나지 않았습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 저장을 기다리는 중에 중단되었습니다.", e);
+        }
+    }
+
+    // 제목과 내용이 컬럼 제약 안에 있는지 (묶음에 넣어도 되는지)
+    private static boolean fitsColumns(Article article) {
+        String title = article.getTitle();
+        String content = article.getContent();
+        return title != null && title.length() <= Article.TITLE_MAX_LENGTH
+                && (content == null || content.codePointCount(0, content.length()) <= Article.CONTENT_MAX_LENGTH);
+    }
+
+    // 쓰기 스레드를 기다리는 요청 수 (테스트용)
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 쓰기 스레드가 가져가지 못한 요청은 종료하는 스레드에서 묶음으로 저장
+        List<Request> batch = new ArrayList<>(maxBatch);
+        while (queue.drainTo(batch, maxBatch) > 0) {
+            writeSafely(batch);
+            batch.clear();
+        }
+    }
+
+    private void runWriter() {
+        List<Request> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                queue.drainTo(batch, maxBatch - batch.size());
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    Request next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+            } catch (InterruptedException e) {
+                if (batch.isEmpty()) {
+                    continue; // running이 false면 종료
+                }
+            }
+            writeSafely(batch);
+            batch.clear();
+        }
+    }
+
+    // 예상하지 못한 오류로 쓰기 스레드가 멈추지 않도록, 결과를 받지 못한 요청에 그 오류를 넘기고 계속 진행
+    private void writeSafely(List<Request> batch) {
+        try {
+            write(batch);
+        } catch (Throwable e) {
+            log.error("게시글 {}건을 저장하지 못했습니다.", batch.size(), e);
+            batch.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private void write(List<Request> batch) {
+        if (batch.size() == 1) {
+            writeAlone(batch.get(0));
+            return;
+        }
+        List<Article> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Article> results = new ArrayList<>(batch.size());
+                for (Request request : batch) {
+                    results.add(boardService.saveArticle(request.article));
+                }
+                return results;
+            });
+        } catch (RuntimeException e) {
+            // 실패한 요청이 든 절반만 계속 나뉘므로 나머지는 묶음으로 커밋됨
+            log.debug("게시글 {}건의 묶음 저장이 실패하여 반으로 나누어 다시 저장합니다: {}", batch.size(), e.getMessage());
+            batch.forEach(ArticleWriteCoordinator::resetGenerated);
+            int half = batch.size() / 2;
+            write(batch.subList(0, half));
+            write(batch.subList(half, batch.size()));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(saved.get(i));
+        }
+    }
+
+    private void writeAlone(Request request) {
+        try {
+            request.result.complete(boardService.saveArticle(request.article));
+        } catch (RuntimeException e) {
+            request.result.completeExceptionally(e);
+        }
+    }
+
+    // 롤백된 묶음에서 부여받았던 ID와 버전을 지움
+    private static void resetGenerated(Request request) {
+        request.article.setId(null);
+        request.article.setVersion(null);
+        request.article.getFiles().forEach(file -> file.setId(null));
+    }
+
+    private static final class Request {
+        private final Article article;
+        private final CompletableFuture<Article> result = new CompletableFuture<>();
+
+        private Request(Article article) {
+            this.article = article;
+        }
+    }
+}
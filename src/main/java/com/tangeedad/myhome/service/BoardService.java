@@ -1,16 +1,32 @@
 package com.tangeedad.myhome.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleJson;
+import com.tangeedad.myhome.dto.ArticleListVersion;
+import com.tangeedad.myhome.dto.ArticlePatchDto;
+import com.tangeedad.myhome.dto.ArticleSearchCondition;
+import com.tangeedad.myhome.dto.FileDto;
 import com.tangeedad.myhome.entity.Article;
 import com.tangeedad.myhome.entity.File;
 import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.repository.ArticleField;
+import com.tangeedad.myhome.repository.ArticleSpecifications;
 import com.tangeedad.myhome.repository.BoardRepository;
 import com.tangeedad.myhome.repository.UserRepository;
+import com.tangeedad.myhome.util.AfterCommit;
+import com.tangeedad.myhome.util.TtlCache;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -20,8 +36,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import static com.tangeedad.myhome.util.ArticleSummarizer.summarize;
 
 /**
  * BoardService는 게시판 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -30,38 +52,197 @@ import java.util.Optional;
 @Service
 public class BoardService {
 
+    private static final String LAST_EVENT_ID = "lastEventId";
+
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ActiveArticleIndex activeArticleIndex;
+    private final ReadCountBuffer readCountBuffer;
+    private final ArticleOutbox articleOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int summaryLength;
+    // 검색 조건 -> 게시글 수 (TTL 동안 근삿값으로 사용)
+    private final TtlCache<CountKey, Long> countCache;
+    // 게시글 ID -> 직렬화된 상세 응답 (짧은 TTL, 같은 ID의 동시 미스는 한 번의 조회로 합쳐짐)
+    private final TtlCache<Long, ArticleJson> detailCache;
+    // 마지막 게시글 이벤트 ID (저장/삭제 시 무효화, TTL은 다른 인스턴스의 변경 반영용)
+    private final TtlCache<String, Long> lastEventIdCache;
+    private final long listVersionTtlMillis;
+    private final ObjectMapper objectMapper;
+    private final int patchMaxAttempts;
     private final String uploadDir = "uploads/"; // 파일 업로드 기본 디렉토리
 
     @Autowired
-    public BoardService(BoardRepository boardRepository, UserRepository userRepository) {
+    public BoardService(BoardRepository boardRepository, UserRepository userRepository,
+                        ActiveArticleIndex activeArticleIndex,
+                        ReadCountBuffer readCountBuffer,
+                        ArticleOutbox articleOutbox,
+                        PlatformTransactionManager transactionManager,
+                        ObjectMapper objectMapper,
+                        @Value("${myhome.article.summary-length:100}") int summaryLength,
+                        @Value("${myhome.article.count-cache.ttl-seconds:30}") long countCacheTtlSeconds,
+                        @Value("${myhome.article.count-cache.max-size:1000}") int countCacheMaxSize,
+                        @Value("${myhome.article.detail-cache.ttl-ms:2000}") long detailCacheTtlMillis,
+                        @Value("${myhome.article.detail-cache.max-size:10000}") int detailCacheMaxSize,
+                        @Value("${myhome.article.list-version-cache.ttl-ms:1000}") long listVersionCacheTtlMillis,
+                        @Value("${myhome.article.patch.max-attempts:3}") int patchMaxAttempts) {
         this.boardRepository = boardRepository;
         this.userRepository = userRepository;
+        this.activeArticleIndex = activeArticleIndex;
+        this.readCountBuffer = readCountBuffer;
+        this.articleOutbox = articleOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.summaryLength = Math.min(summaryLength, Article.SUMMARY_MAX_LENGTH);
+        this.countCache = new TtlCache<>(countCacheTtlSeconds * 1000, countCacheMaxSize);
+        this.detailCache = new TtlCache<>(detailCacheTtlMillis, detailCacheMaxSize);
+        this.lastEventIdCache = new TtlCache<>(listVersionCacheTtlMillis, 1);
+        this.listVersionTtlMillis = Math.max(1, listVersionCacheTtlMillis);
+        this.objectMapper = objectMapper;
+        this.patchMaxAttempts = Math.max(1, patchMaxAttempts);
     }
 
     /**
-     * 게시글 목록을 검색어와 페이지네이션 조건에 따라 조회합니다.
+     * 검색 조건에 맞는 게시 중인 게시글 수를 반환합니다.
+     * 조건이 없으면 활성 게시글 색인의 값을 COUNT 쿼리 없이 반환하고,
+     * 조건이 있으면 조건별 COUNT 결과를 TTL 동안 캐시한 근삿값을 반환합니다.
      *
-     * @param searchText 검색어
-     * @param pageable   페이지네이션 정보
-     * @return 검색된 게시글 목록
+     * @param condition 검색 조건 (null이면 조건 없음)
+     * @return 게시글 수
      */
-    public Page<Article> getArticles(String searchText, Pageable pageable) {
-        Pageable sortedByIdDesc = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                Sort.by(Sort.Direction.DESC, "id")
-        );
+    public long countArticles(ArticleSearchCondition condition) {
+        ArticleSearchCondition searchCondition = condition != null ? condition : new ArticleSearchCondition();
+        if (!searchCondition.hasFilters() && activeArticleIndex.isLoaded()) {
+            return activeArticleIndex.getActiveCount();
+        }
+        return countCache.get(CountKey.of(searchCondition), key ->
+                boardRepository.count(ArticleSpecifications.of(searchCondition, LocalDateTime.now())));
+    }
 
-        LocalDateTime now = LocalDateTime.now();
+    /**
+     * 목록 ETag 계산용 버전을 반환합니다.
+     * 게시글 변경은 모두 article_outbox에 기록되므로 마지막 이벤트 ID로, 게시 기간 시작/종료는 활성 게시글 색인이
+     * 마지막으로 반영한 경계 시각으로 판단하며, 목록 범위를 집계하지 않습니다.
+     * 색인이 목록을 제공하는 동안에는 색인이 실제로 반영한 이벤트 ID를 사용하여, 다른 인스턴스의 변경이 아직 색인에
+     * 반영되지 않았는데 ETag만 바뀌는 일이 없도록 합니다. 그 외에는 마지막 이벤트 ID를 TTL 동안 캐시하고
+     * 이 인스턴스의 저장/삭제 시 무효화하며, 경계 대신 TTL 단위 시각을 사용합니다.
+     *
+     * @return 목록 버전 정보
+     */
+    public ArticleListVersion getListVersion() {
+        if (activeArticleIndex.isLoaded() && activeArticleIndex.getAppliedEventId() >= 0) {
+            return new ArticleListVersion(activeArticleIndex.getAppliedEventId(), activeArticleIndex.getLastBoundary());
+        }
+        long lastEventId = lastEventIdCache.get(LAST_EVENT_ID, key -> articleOutbox.headId());
+        long boundary = activeArticleIndex.isLoaded()
+                ? activeArticleIndex.getLastBoundary()
+                : System.currentTimeMillis() / listVersionTtlMillis;
+        return new ArticleListVersion(lastEventId, boundary);
+    }
 
-        if (searchText == null || searchText.isEmpty()) {
-            return boardRepository.findAllByStartDateBeforeAndEndDateAfter(now, now, sortedByIdDesc);
+    /**
+     * getArticles와 같은 조건으로 목록 표시용 게시글을 조회합니다.
+     * 본문 대신 저장된 요약만 읽으므로 응답 크기와 읽는 데이터 양이 본문 길이와 무관합니다.
+     *
+     * @param condition 검색 조건 (null이면 조건 없음)
+     * @param pageable  페이지네이션 정보
+     * @return 목록 표시용 게시글
+     */
+    public List<ArticleDisplayDto> getArticleDisplays(ArticleSearchCondition condition, Pageable pageable) {
+        ArticleSearchCondition searchCondition = condition != null ? condition : new ArticleSearchCondition();
+        if (!searchCondition.hasFilters() && activeArticleIndex.isLoaded()) {
+            List<Long> ids = activeArticleIndex.findActiveIds(pageable.getOffset(), pageable.getPageSize());
+            if (ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            Map<Long, ArticleDisplayDto> byId = new HashMap<>();
+            boardRepository.findDisplayRows(ArticleSpecifications.idIn(ids), Pageable.unpaged())
+                    .forEach(row -> byId.put(row.getId(), row));
+            return inIdOrder(ids, byId);
+        }
+        return boardRepository.findDisplayRows(
+                ArticleSpecifications.of(searchCondition, LocalDateTime.now()),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    private record CountKey(String searchText, Long authorId, LocalDateTime regDateFrom, LocalDateTime regDateTo,
+                            Long minReadCount, LocalDateTime visibleAt) {
+        static CountKey of(ArticleSearchCondition condition) {
+            return new CountKey(condition.getSearchText(), condition.getAuthorId(), condition.getRegDateFrom(),
+                    condition.getRegDateTo(), condition.getMinReadCount(), condition.getVisibleAt());
         }
-        return boardRepository.findByTitleContainingOrContentContainingAndStartDateBeforeAndEndDateAfter(
-                searchText, searchText, now, now, sortedByIdDesc
-        );
+    }
+
+    // 색인에서 자른 ID 순서대로 정렬 (그사이 삭제된 게시글은 제외)
+    private static <T> List<T> inIdOrder(List<Long> ids, Map<Long, T> byId) {
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 특정 사용자가 작성한 게시 중인 게시글을 최신 글부터 키셋 방식으로 조회합니다.
+     * 선택한 컬럼만 조회하므로 content를 요청하지 않으면 읽지 않습니다.
+     *
+     * @param userId   작성자 ID
+     * @param beforeId 이전 페이지의 마지막 게시글 ID (null이면 처음부터)
+     * @param size     페이지 크기
+     * @param fields   조회할 컬럼
+     * @return 필드 이름 -> 값 맵 목록
+     */
+    public List<Map<String, Object>> getArticlesByAuthor(Long userId, Long beforeId, int size, Set<ArticleField> fields) {
+        return boardRepository.findFields(
+                ArticleSpecifications.visibleAt(LocalDateTime.now())
+                        .and(ArticleSpecifications.writtenBy(userId))
+                        .and(ArticleSpecifications.idLessThan(beforeId)),
+                fields, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    /**
+     * getArticles와 같은 조건으로 게시글 목록을 조회하되, 선택한 컬럼만 조회합니다.
+     *
+     * @param condition 검색 조건 (null이면 조건 없음)
+     * @param pageable  페이지네이션 정보
+     * @param fields    조회할 컬럼
+     * @return 필드 이름 -> 값 맵 목록
+     */
+    public List<Map<String, Object>> getArticleFields(ArticleSearchCondition condition, Pageable pageable,
+                                                      Set<ArticleField> fields) {
+        ArticleSearchCondition searchCondition = condition != null ? condition : new ArticleSearchCondition();
+        return boardRepository.findFields(
+                ArticleSpecifications.of(searchCondition, LocalDateTime.now()), fields,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    /**
+     * 특정 게시글의 선택한 컬럼만 조회하고 조회수를 1 증가시킵니다.
+     *
+     * @param id           게시글 ID
+     * @param fields       조회할 컬럼
+     * @param includeFiles 첨부파일 목록 포함 여부
+     * @return 필드 이름 -> 값 맵 (Optional)
+     */
+    public Optional<Map<String, Object>> getArticleFieldsById(Long id, Set<ArticleField> fields, boolean includeFiles) {
+        return readOnlyTransaction.execute(status -> {
+            List<Map<String, Object>> rows = boardRepository.findFields(
+                    ArticleSpecifications.hasId(id), fields, Pageable.unpaged());
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            readCountBuffer.increment(id);
+            Map<String, Object> row = rows.get(0);
+            if (includeFiles) {
+                row.put("files", boardRepository.findFilesByArticleId(id).stream().map(FileDto::new).toList());
+            }
+            return Optional.of(row);
+        });
     }
 
     /**
@@ -72,21 +253,165 @@ public class BoardService {
      */
     public Optional<Article> getArticleById(Long id) {
         Optional<Article> articleOptional = boardRepository.findById(id);
-        articleOptional.ifPresent(article -> {
-            article.setReadCount(article.getReadCount() + 1); // 조회수 증가
-            boardRepository.save(article);
-        });
+        articleOptional.ifPresent(article -> readCountBuffer.increment(article.getId())); // 조회수 증가 (일괄 반영)
         return articleOptional;
     }
 
     /**
-     * 게시글을 저장하거나 업데이트합니다.
+     * 게시글 상세 정보를 조회하고 조회수를 1 증가시킵니다.
+     * 같은 게시글에 대한 동시 요청은 진행 중인 한 번의 조회 결과를 함께 사용하고, 직렬화한 JSON과 gzip 바이트를
+     * 짧은 TTL 동안 캐시하여 캐시 적중 시에는 DTO 변환과 직렬화 없이 응답합니다.
+     * 조회수는 ReadCountBuffer로 모아 일괄 반영하므로 응답의 조회수는 잠시 늦게 반영될 수 있습니다.
+     *
+     * @param id 게시글 ID
+     * @return 직렬화된 게시글 상세 정보(Optional)
+     */
+    public Optional<ArticleJson> getArticleDetail(Long id) {
+        ArticleJson article = detailCache.get(id, key -> readOnlyTransaction.execute(status ->
+                boardRepository.findById(key)
+                        .map(value -> ArticleJson.of(new ArticleDto(value), objectMapper))
+                        .orElse(null)));
+        if (article != null) {
+            readCountBuffer.increment(id);
+        }
+        return Optional.ofNullable(article);
+    }
+
+    /**
+     * 게시글의 낙관적 잠금 버전을 반환합니다. 조회수는 증가시키지 않습니다.
+     * 상세 캐시에 있으면 쿼리 없이 반환하고, 없으면 해당 컬럼만 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 버전 (게시글이 없으면 빈 Optional)
+     */
+    public Optional<Long> getArticleVersion(Long id) {
+        ArticleJson cached = detailCache.getIfPresent(id);
+        if (cached != null && cached.getVersion() != null) {
+            return Optional.of(cached.getVersion());
+        }
+        return boardRepository.findVersionById(id);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회하고 각 게시글의 조회수를 1 증가시킵니다.
+     * 게시글과 작성자 IN 쿼리 1회, 첨부파일 배치 쿼리 1회로 처리하며, 조회수는 ReadCountBuffer로 일괄 반영합니다.
+     *
+     * @param ids 게시글 ID 목록 (중복은 한 번만 처리)
+     * @return 요청 순서대로 정렬된 게시글 목록 (존재하지 않는 ID는 제외)
+     */
+    public List<ArticleDto> getArticlesByIds(List<Long> ids) {
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, Article> byId = new HashMap<>();
+            for (Article article : boardRepository.findAllWithUserByIdIn(uniqueIds)) {
+                byId.put(article.getId(), article);
+            }
+
+            List<ArticleDto> result = new ArrayList<>(byId.size());
+            for (Long id : uniqueIds) {
+                Article article = byId.get(id);
+                if (article != null) {
+                    readCountBuffer.increment(id);
+                    result.add(new ArticleDto(article));
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 게시글을 저장하거나 업데이트합니다. 본문에서 목록용 요약을 계산하여 함께 저장합니다.
+     * 변경 이벤트는 같은 트랜잭션에서 아웃박스에 기록하고, 색인과 캐시는 커밋 후에 갱신합니다.
      *
      * @param article 저장할 게시글 객체
      * @return 저장된 게시글 객체
      */
     public Article saveArticle(Article article) {
-        return boardRepository.save(article);
+        boolean created = article.getId() == null;
+        article.setSummary(summarize(article.getContent(), summaryLength));
+        return transactionTemplate.execute(status -> {
+            Article saved = boardRepository.save(article);
+            articleOutbox.append(ArticleEvent.saved(saved, created));
+            AfterCommit.run(() -> {
+                activeArticleIndex.upsert(saved.getId(), saved.getStartDate(), saved.getEndDate());
+                detailCache.invalidate(saved.getId());
+                lastEventIdCache.invalidateAll();
+            });
+            return saved;
+        });
+    }
+
+    /**
+     * 게시글의 일부 필드만 수정합니다. null이 아닌 필드만 반영하며, 값이 실제로 바뀐 컬럼과 버전만 UPDATE합니다.
+     * 요청에 버전이 있으면 현재 버전과 다를 때 수정하지 않고 OptimisticLockingFailureException을 던집니다.
+     * 버전 없이 요청했는데 다른 수정과 충돌하면 최신 상태를 다시 읽어 patch.max-attempts회까지 재시도합니다.
+     *
+     * @param id    게시글 ID
+     * @param patch 바꿀 필드
+     * @return 수정된 게시글 (게시글이 없으면 빈 Optional)
+     * @throws org.springframework.dao.OptimisticLockingFailureException 버전이 맞지 않거나 재시도 후에도 충돌한 경우
+     * @throws IllegalArgumentException 수정 결과 게시 시작일이 종료일보다 늦은 경우
+     */
+    public Optional<ArticleDto> patchArticle(Long id, ArticlePatchDto patch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyPatch(id, patch));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (patch.getVersion() != null || attempt >= patchMaxAttempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Optional<ArticleDto> applyPatch(Long id, ArticlePatchDto patch) {
+        Optional<Article> found = boardRepository.findById(id);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Article article = found.get();
+        if (patch.getVersion() != null && !patch.getVersion().equals(article.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Article.class, id);
+        }
+
+        boolean changed = false;
+        if (patch.getTitle() != null && !patch.getTitle().equals(article.getTitle())) {
+            article.setTitle(patch.getTitle());
+            changed = true;
+        }
+        if (patch.getContent() != null && !patch.getContent().equals(article.getContent())) {
+            article.setContent(patch.getContent());
+            article.setSummary(summarize(patch.getContent(), summaryLength));
+            changed = true;
+        }
+        if (patch.getStartDate() != null && !patch.getStartDate().equals(article.getStartDate())) {
+            article.setStartDate(patch.getStartDate());
+            changed = true;
+        }
+        if (patch.getEndDate() != null && !patch.getEndDate().equals(article.getEndDate())) {
+            article.setEndDate(patch.getEndDate());
+            changed = true;
+        }
+        if (article.getStartDate() != null && article.getEndDate() != null
+                && article.getStartDate().isAfter(article.getEndDate())) {
+            throw new IllegalArgumentException("게시 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        if (changed) {
+            boardRepository.flush(); // 버전 충돌을 커밋 전에 확인하고 증가한 버전을 응답에 반영
+            // last_update_date는 DB가 UPDATE 때 갱신하므로 다시 읽음 (updatable=false라 엔티티를 바꿔도 UPDATE되지 않음)
+            boardRepository.findLastUpdateDateById(id).ifPresent(article::setLastUpdateDate);
+            articleOutbox.append(ArticleEvent.saved(article, false));
+            AfterCommit.run(() -> {
+                activeArticleIndex.upsert(id, article.getStartDate(), article.getEndDate());
+                detailCache.invalidate(id);
+                lastEventIdCache.invalidateAll();
+            });
+        }
+        return Optional.of(new ArticleDto(article));
     }
 
     /**
@@ -103,16 +428,24 @@ public class BoardService {
         }
 
         article.setUser(user);
-        boardRepository.save(article);
+        saveArticle(article);
     }
 
     /**
-     * 특정 ID의 게시글을 삭제합니다.
+     * 특정 ID의 게시글을 삭제합니다. 삭제 이벤트는 같은 트랜잭션에서 아웃박스에 기록합니다.
      *
      * @param id 삭제할 게시글 ID
      */
     public void deleteArticle(Long id) {
-        boardRepository.deleteById(id);
+        transactionTemplate.executeWithoutResult(status -> {
+            boardRepository.deleteById(id);
+            articleOutbox.append(ArticleEvent.deleted(id));
+            AfterCommit.run(() -> {
+                activeArticleIndex.remove(id);
+                detailCache.invalidate(id);
+                lastEventIdCache.invalidateAll();
+            });
+        });
     }
 
     /**
@@ -1,35 +1,92 @@
 package com.tangeedad.myhome.service;
 
+import com.tangeedad.myhome.entity.Role;
 import com.tangeedad.myhome.entity.User;
 import com.tangeedad.myhome.repository.UserRepository;
+import com.tangeedad.myhome.util.TtlCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private final UserRepository userRepository;
+
+    // 사용자 이름 -> 사용자 정보 스냅샷 캐시
+    private final TtlCache<String, UserSnapshot> userCache;
+
     @Autowired
-    private UserRepository userRepository;
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${myhome.security.user-cache.ttl-seconds:300}") long ttlSeconds,
+                                    @Value("${myhome.security.user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.userCache = new TtlCache<>(ttlSeconds * 1000, maxSize);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username);
-        if (user == null) {
+        UserSnapshot snapshot = userCache.get(username, this::loadSnapshot);
+        if (snapshot == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
         }
 
         // UserDetails 객체로 변환
+        // 인증 후 eraseCredentials()로 비밀번호가 지워지므로 캐시에는 스냅샷만 두고 매번 새로 생성
         return new org.springframework.security.core.userdetails.User(
+                snapshot.username(),
+                snapshot.password(),
+                snapshot.roles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList()
+        );
+    }
+
+    /**
+     * 사용자 이름에 해당하는 캐시 항목을 제거합니다.
+     *
+     * @param username 사용자 이름
+     */
+    public void evictUser(String username) {
+        if (username != null) {
+            userCache.invalidate(username);
+        }
+    }
+
+    /**
+     * 사용자 ID에 해당하는 캐시 항목을 제거합니다. 사용자 이름이 바뀐 경우에도 이전 항목이 제거되며,
+     * 로딩 중인 항목도 변경 전 상태(예: 비활성화 전)를 읽었을 수 있으므로 함께 제거되어 캐시에 남지 않습니다.
+     *
+     * @param id 사용자 ID
+     */
+    public void evictUserById(Long id) {
+        if (id != null) {
+            userCache.invalidateIf((username, snapshot) -> id.equals(snapshot.id()));
+        }
+    }
+
+    private UserSnapshot loadSnapshot(String username) {
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            return null;
+        }
+        return new UserSnapshot(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
-                user.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority(role.getName()))
-                        .toList()
+                user.getRoles().stream().map(Role::getName).toList()
         );
     }
-}
 
+    /**
+     * 캐시에 보관하는 불변 사용자 정보
+     */
+    private record UserSnapshot(Long id, String username, String password, List<String> roles) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.tangeedad.myhome.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReadCountBuffer는 게시글 조회수 증가분을 메모리에 모아 주기적으로 한 번의 배치 UPDATE로 반영합니다.
+ *
+ * 인기 게시글에 조회가 몰려도 요청마다 행 잠금과 UPDATE가 발생하지 않으며, 게시글마다 합산된 증가분만 기록합니다.
+ * 조회수 반영은 최대 flush-ms만큼 늦어질 수 있고, 반영에 실패한 증가분은 다음 주기에 다시 시도합니다.
+ */
+@Component
+public class ReadCountBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadCountBuffer.class);
+
+    // last_update_date를 자기 자신으로 지정하여 ON UPDATE current_timestamp()로 수정 시각이 바뀌지 않게 함
+    private static final String UPDATE_SQL =
+            "UPDATE articles SET read_count = read_count + ?, last_update_date = last_update_date WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID -> 아직 반영하지 않은 증가분
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public ReadCountBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다.
+     */
+    public void increment(Long id) {
+        if (id != null) {
+            pending.merge(id, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 모인 증가분을 DB에 반영합니다.
+     *
+     * @return 갱신한 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${myhome.article.read-count.flush-ms:1000}")
+    public int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id); // 제거 이후의 증가분은 새 항목으로 쌓임
+            if (delta != null) {
+                batch.add(new Object[]{delta, id});
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        } catch (DataAccessException e) {
+            log.warn("조회수 {}건을 반영하지 못했습니다. 다음 주기에 다시 시도합니다: {}", batch.size(), e.getMessage());
+            batch.forEach(row -> pending.merge((Long) row[1], (Long) row[0], Long::sum));
+            return 0;
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,130 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.entity.Role;
+import com.tangeedad.myhome.repository.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RoleRegistry는 roles 테이블 전체를 메모리에 올려두는 불변 역할 레지스트리입니다.
+ *
+ * 조회는 volatile 스냅샷 참조 하나만 읽으므로 락이 없고, 역할이 변경되면 새 스냅샷을 만들어 한 번에 교체합니다.
+ * 스냅샷에는 ID와 이름만 불변 값으로 보관하고 조회할 때마다 새 Role 객체를 만들어 반환하므로,
+ * 호출한 쪽이 반환된 객체를 수정하거나 영속성 컨텍스트에 붙여도 다른 요청에 영향을 주지 않습니다.
+ * 시작 시 DB에 접근할 수 없었던 경우에만 조회 시점에 다시 적재를 시도합니다.
+ */
+@Component
+public class RoleRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleRegistry.class);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("역할 목록을 적재하지 못했습니다. 첫 조회 시 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 역할 전체를 다시 읽어 스냅샷을 교체합니다.
+     */
+    public synchronized void reload() {
+        List<RoleEntry> roles = roleRepository.findAll().stream()
+                .map(role -> new RoleEntry(role.getId(), role.getName()))
+                .toList();
+        snapshot = new Snapshot(roles, true);
+        log.debug("역할 {}개를 적재했습니다.", roles.size());
+    }
+
+    /**
+     * 이름으로 역할을 조회합니다.
+     *
+     * @param name 역할 이름
+     * @return 새로 만든 Role 객체, 없으면 null
+     */
+    public Role findByName(String name) {
+        RoleEntry entry = current().byName.get(name);
+        return entry != null ? entry.toRole() : null;
+    }
+
+    /**
+     * 이름으로 역할 ID를 조회합니다.
+     *
+     * @param name 역할 이름
+     * @return 역할 ID, 없으면 null
+     */
+    public Long findIdByName(String name) {
+        RoleEntry entry = current().byName.get(name);
+        return entry != null ? entry.id() : null;
+    }
+
+    /**
+     * ID로 역할을 조회합니다.
+     *
+     * @param id 역할 ID
+     * @return 새로 만든 Role 객체, 없으면 null
+     */
+    public Role findById(Long id) {
+        RoleEntry entry = current().byId.get(id);
+        return entry != null ? entry.toRole() : null;
+    }
+
+    /**
+     * 모든 역할을 반환합니다.
+     *
+     * @return 새로 만든 Role 객체 목록
+     */
+    public List<Role> findAll() {
+        return current().byId.values().stream().map(RoleEntry::toRole).toList();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (!current.loaded) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private record RoleEntry(Long id, String name) {
+        private Role toRole() {
+            return new Role(id, name, new ArrayList<>());
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), false);
+
+        private final Map<String, RoleEntry> byName;
+        private final Map<Long, RoleEntry> byId;
+        private final boolean loaded;
+
+        private Snapshot(List<RoleEntry> roles, boolean loaded) {
+            this.byName = roles.stream().collect(Collectors.toUnmodifiableMap(RoleEntry::name, Function.identity()));
+            this.byId = roles.stream().collect(Collectors.toUnmodifiableMap(RoleEntry::id, Function.identity()));
+            this.loaded = loaded;
+        }
+    }
+}
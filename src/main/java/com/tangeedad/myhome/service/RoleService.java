@@ -5,20 +5,24 @@ import com.tangeedad.myhome.repository.RoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * RoleService는 사용자 역할 관리를 위한 서비스 클래스입니다.
+ * 조회는 RoleRegistry의 메모리 스냅샷을 사용하고, 변경 시 스냅샷을 다시 적재합니다.
  */
 @Service
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     @Autowired
-    public RoleService(RoleRepository roleRepository) {
+    public RoleService(RoleRepository roleRepository, RoleRegistry roleRegistry) {
         this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
     }
 
     /**
@@ -27,7 +31,7 @@ public class RoleService {
      * @return 역할 목록
      */
     public List<Role> getAllRoles() {
-        return roleRepository.findAll();
+        return new ArrayList<>(roleRegistry.findAll());
     }
 
     /**
@@ -37,7 +41,7 @@ public class RoleService {
      * @return Role 객체
      */
     public Role getRoleByName(String name) {
-        return roleRepository.findByName(name);
+        return roleRegistry.findByName(name);
     }
 
     /**
@@ -47,7 +51,7 @@ public class RoleService {
      * @return Role 객체(Optional)
      */
     public Optional<Role> getRoleById(Long id) {
-        return roleRepository.findById(id);
+        return Optional.ofNullable(roleRegistry.findById(id));
     }
 
     /**
@@ -57,7 +61,9 @@ public class RoleService {
      * @return 저장된 Role 객체
      */
     public Role saveRole(Role role) {
-        return roleRepository.save(role);
+        Role savedRole = roleRepository.save(role);
+        roleRegistry.reload();
+        return savedRole;
     }
 
     /**
@@ -67,5 +73,6 @@ public class RoleService {
      */
     public void deleteRole(Long id) {
         roleRepository.deleteById(id);
+        roleRegistry.reload();
     }
 }
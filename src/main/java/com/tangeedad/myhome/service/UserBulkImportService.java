@@ -0,0 +1,419 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.UserImportResult;
+import com.tangeedad.myhome.dto.UserImportResult.Status;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.tangeedad.myhome.util.UsernameNormalizer.normalize;
+
+/**
+ * UserBulkImportService는 CSV 또는 NDJSON으로 받은 사용자 목록을 일괄 등록합니다.
+ *
+ * 입력을 청크 단위로 읽어 청크마다 중복 확인 쿼리 1회, CPU 코어 수만큼의 병렬 BCrypt 암호화,
+ * users/user_roles JDBC 배치 INSERT를 수행하고, 행별 결과를 청크마다 입력 순서대로 콜백에 전달합니다.
+ * CSV는 RFC 4180 형식의 따옴표 필드(쉼표, 줄바꿈, "" 이스케이프 포함)를 지원하며,
+ * 해석할 수 없는 행이나 enabled 값이 true/false가 아닌 행은 그 행만 INVALID로 처리합니다.
+ * 필드 맨 앞의 따옴표만 따옴표 필드를 열며, 열린 따옴표가 MAX_RECORD_LINES줄 또는 MAX_RECORD_LENGTH자 안에서
+ * 닫히지 않으면 그 첫 줄만 INVALID로 처리하고 이어 읽은 줄은 각각 다시 레코드로 읽습니다.
+ */
+@Service
+public class UserBulkImportService {
+
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    // 한 레코드의 최대 줄 수와 길이 (따옴표 필드 안의 줄바꿈 포함)
+    private static final int MAX_RECORD_LINES = 20;
+    private static final int MAX_RECORD_LENGTH = 4096;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final RoleRegistry roleRegistry;
+    private final UsernameBloomFilter usernameFilter;
+    private final UsernameTrigramIndex usernameIndex;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ExecutorService hashExecutor;
+
+    public UserBulkImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 PasswordEncoder passwordEncoder,
+                                 RoleRegistry roleRegistry,
+                                 UsernameBloomFilter usernameFilter,
+                                 UsernameTrigramIndex usernameIndex,
+                                 ObjectMapper objectMapper,
+                                 @Value("${myhome.user.import.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.roleRegistry = roleRegistry;
+        this.usernameFilter = usernameFilter;
+        this.usernameIndex = usernameIndex;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    /**
+     * 입력 스트림의 사용자 목록을 등록합니다.
+     *
+     * @param input 요청 본문
+     * @param ndjson true면 NDJSON({"username","password","enabled"}), false면 CSV(username,password[,enabled])
+     *               (enabled는 true/false/1/0, 생략하면 true)
+     * @param resultConsumer 청크별 결과 콜백 (입력 순서대로 호출)
+     * @throws IOException 입력을 읽지 못한 경우
+     */
+    public void importUsers(InputStream input, boolean ndjson, Consumer<List<UserImportResult>> resultConsumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Deque<String> pushedBack = new ArrayDeque<>(); // 다시 레코드로 읽을 줄
+        String line;
+        long lineNumber = 0;
+
+        while ((line = pushedBack.isEmpty() ? reader.readLine() : pushedBack.pop()) != null) {
+            long startLine = ++lineNumber;
+            if (!ndjson && endsInsideQuotes(line, false)) {
+                // 따옴표 필드 안의 줄바꿈은 다음 줄까지 이어서 하나의 레코드로 읽음
+                List<String> continued = new ArrayList<>();
+                int length = line.length();
+                boolean quoted = true;
+                String next;
+                while (quoted && length <= MAX_RECORD_LENGTH && continued.size() + 1 < MAX_RECORD_LINES
+                        && (next = pushedBack.isEmpty() ? reader.readLine() : pushedBack.pop()) != null) {
+                    continued.add(next);
+                    length += next.length() + 1;
+                    quoted = endsInsideQuotes(next, true);
+                }
+                if (quoted || length > MAX_RECORD_LENGTH) {
+                    // 닫히지 않은 따옴표로 보고 첫 줄만 거부하고, 이어 읽은 줄은 각각 다시 읽음
+                    for (int i = continued.size() - 1; i >= 0; i--) {
+                        pushedBack.push(continued.get(i));
+                    }
+                    addRow(chunk, Row.invalid(startLine, "따옴표가 닫히지 않았거나 레코드가 너무 깁니다."), resultConsumer);
+                    continue;
+                }
+                continued.add(0, line);
+                line = String.join("\n", continued);
+                lineNumber += continued.size() - 1;
+            }
+            if (line.isBlank() || (!ndjson && startLine == 1 && line.trim().toLowerCase(Locale.ROOT).startsWith("username"))) {
+                continue; // 빈 줄과 CSV 헤더는 건너뜀
+            }
+            if (line.length() > MAX_RECORD_LENGTH) {
+                addRow(chunk, Row.invalid(startLine, "레코드가 너무 깁니다."), resultConsumer);
+                continue;
+            }
+            addRow(chunk, parse(line, startLine, ndjson), resultConsumer);
+        }
+        if (!chunk.isEmpty()) {
+            resultConsumer.accept(processChunk(chunk));
+        }
+    }
+
+    private void addRow(List<Row> chunk, Row row, Consumer<List<UserImportResult>> resultConsumer) {
+        chunk.add(row);
+        if (chunk.size() == chunkSize) {
+            resultConsumer.accept(processChunk(chunk));
+            chunk.clear();
+        }
+    }
+
+    private Row parse(String line, long lineNumber, boolean ndjson) {
+        try {
+            if (ndjson) {
+                JsonNode node = objectMapper.readTree(line);
+                return new Row(lineNumber,
+                        node.path("username").asText(null),
+                        node.path("password").asText(null),
+                        parseEnabled(node.get("enabled")));
+            }
+            List<String> columns = splitCsv(line);
+            if (columns.size() > 3) {
+                throw new IllegalArgumentException("열은 username,password[,enabled]만 허용됩니다.");
+            }
+            return new Row(lineNumber, columns.get(0).trim(), columns.size() > 1 ? columns.get(1) : null,
+                    parseEnabled(columns.size() > 2 ? columns.get(2) : null));
+        } catch (IOException e) {
+            return Row.invalid(lineNumber, "행을 해석할 수 없습니다.");
+        } catch (IllegalArgumentException e) {
+            return Row.invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    // 생략하거나 비어 있으면 true, 그 외에는 true/false/1/0만 허용
+    static boolean parseEnabled(String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1" -> true;
+            case "false", "0" -> false;
+            default -> throw new IllegalArgumentException("enabled 값은 true 또는 false여야 합니다: " + value.trim());
+        };
+    }
+
+    private static boolean parseEnabled(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return true;
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isTextual() || value.isIntegralNumber()) {
+            return parseEnabled(value.asText());
+        }
+        throw new IllegalArgumentException("enabled 값은 true 또는 false여야 합니다: " + value);
+    }
+
+    /**
+     * CSV 레코드 한 개를 필드로 나눕니다 (RFC 4180).
+     * 따옴표로 감싼 필드는 쉼표와 줄바꿈을 그대로 포함하며, 필드 안의 따옴표는 ""로 씁니다.
+     *
+     * @throws IllegalArgumentException 따옴표가 닫히지 않았거나 닫는 따옴표 뒤에 다른 문자가 있는 경우
+     */
+    static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean closed = false; // 따옴표 필드가 끝나고 구분자를 기다리는 중
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                    closed = true;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                closed = false;
+            } else if (closed) {
+                if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException("닫는 따옴표 뒤에는 쉼표가 와야 합니다.");
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 한 줄을 읽은 뒤 따옴표 필드 안에 있는지 판단합니다 (RFC 4180).
+     * 따옴표는 필드 맨 앞에서만 따옴표 필드를 열고, 따옴표 필드 안의 ""는 이스케이프이므로 닫지 않습니다.
+     * 필드 중간의 따옴표(예: 비밀번호 ab"c)는 일반 문자입니다.
+     *
+     * @param quoted 이전 줄이 따옴표 필드 안에서 끝났는지
+     */
+    static boolean endsInsideQuotes(String line, boolean quoted) {
+        boolean fieldStart = !quoted;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+            } else if (c == ',') {
+                fieldStart = true;
+            } else {
+                quoted = c == '"' && fieldStart;
+                fieldStart = false;
+            }
+        }
+        return quoted;
+    }
+
+    private List<UserImportResult> processChunk(List<Row> rows) {
+        Long defaultRoleId = roleRegistry.findIdByName(DEFAULT_ROLE);
+
+        // 1. 형식 검사와 요청 내 중복 확인
+        Map<String, Row> candidates = new HashMap<>();
+        for (Row row : rows) {
+            if (row.result != null) {
+                continue;
+            }
+            if (row.username == null || row.username.isBlank() || row.username.length() > MAX_USERNAME_LENGTH
+                    || row.password == null || row.password.isEmpty()) {
+                row.fail(Status.INVALID, "사용자 이름과 비밀번호를 확인하세요.");
+            } else if (defaultRoleId == null) {
+                row.fail(Status.FAILED, DEFAULT_ROLE + " 역할이 시스템에 존재하지 않습니다.");
+            } else if (candidates.putIfAbsent(normalize(row.username), row) != null) {
+                row.fail(Status.DUPLICATE, "요청 안에서 중복된 사용자 이름입니다.");
+            }
+        }
+
+        // 2. 기존 사용자와의 중복을 한 번의 쿼리로 확인
+        if (!candidates.isEmpty()) {
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT username FROM users WHERE username IN (:usernames)",
+                    new MapSqlParameterSource("usernames", usernames(candidates.values())), String.class);
+            for (String username : existing) {
+                Row row = candidates.remove(normalize(username));
+                if (row != null) {
+                    row.fail(Status.DUPLICATE, "이미 존재하는 사용자 이름입니다.");
+                }
+            }
+        }
+
+        // 3. 비밀번호를 코어 수만큼 병렬로 암호화
+        List<Row> inserts = new ArrayList<>(candidates.values());
+        List<CompletableFuture<Void>> hashing = new ArrayList<>(inserts.size());
+        for (Row row : inserts) {
+            hashing.add(CompletableFuture.runAsync(
+                    () -> row.encodedPassword = passwordEncoder.encode(row.password), hashExecutor));
+        }
+        CompletableFuture.allOf(hashing.toArray(new CompletableFuture[0])).join();
+
+        // 4. 배치 INSERT, 경합으로 유니크 제약에 걸리면 한 행씩 다시 시도
+        if (!inserts.isEmpty()) {
+            try {
+                markCreated(inserts, transactionTemplate.execute(status -> insertBatch(inserts, defaultRoleId)));
+            } catch (DataIntegrityViolationException e) {
+                for (Row row : inserts) {
+                    try {
+                        List<Row> single = List.of(row);
+                        markCreated(single, transactionTemplate.execute(status -> insertBatch(single, defaultRoleId)));
+                    } catch (DataIntegrityViolationException rowError) {
+                        row.fail(Status.DUPLICATE, "이미 존재하는 사용자 이름입니다.");
+                    }
+                }
+            }
+        }
+
+        List<UserImportResult> results = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.result == null) {
+                row.fail(Status.FAILED, "사용자를 저장하지 못했습니다.");
+            }
+            results.add(row.result);
+        }
+        return results;
+    }
+
+    // users와 user_roles에 배치 INSERT 후 정규화된 사용자 이름 -> 생성된 ID 맵을 반환
+    private Map<String, Long> insertBatch(List<Row> rows, Long roleId) {
+        SqlParameterSource[] userParams = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("username", row.username)
+                        .addValue("password", row.encodedPassword)
+                        .addValue("enabled", row.enabled))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (username, password, enabled) VALUES (:username, :password, :enabled)", userParams);
+
+        // 생성된 ID를 한 번의 쿼리로 조회
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, username FROM users WHERE username IN (:usernames)",
+                new MapSqlParameterSource("usernames", usernames(rows)),
+                rs -> {
+                    ids.put(normalize(rs.getString("username")), rs.getLong("id"));
+                });
+
+        SqlParameterSource[] roleParams = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("userId", ids.get(normalize(row.username)))
+                        .addValue("roleId", roleId))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (:userId, :roleId)", roleParams);
+        return ids;
+    }
+
+    // 커밋된 행의 결과를 기록하고 메모리 색인에 반영
+    private void markCreated(List<Row> rows, Map<String, Long> ids) {
+        for (Row row : rows) {
+            Long id = ids.get(normalize(row.username));
+            row.result = new UserImportResult(row.line, row.username, Status.CREATED, id, null);
+            usernameFilter.put(row.username);
+            usernameIndex.add(id, row.username);
+        }
+    }
+
+    private static List<String> usernames(Iterable<Row> rows) {
+        Set<String> names = new HashSet<>();
+        rows.forEach(row -> names.add(row.username));
+        return new ArrayList<>(names);
+    }
+
+    private static final class Row {
+        private final long line;
+        private final String username;
+        private final String password;
+        private final boolean enabled;
+        private String encodedPassword;
+        private UserImportResult result;
+
+        private Row(long line, String username, String password, boolean enabled) {
+            this.line = line;
+            this.username = username;
+            this.password = password;
+            this.enabled = enabled;
+        }
+
+        private static Row invalid(long line, String message) {
+            Row row = new Row(line, null, null, true);
+            row.fail(Status.INVALID, message);
+            return row;
+        }
+
+        private void fail(Status status, String message) {
+            this.result = new UserImportResult(line, username, status, null, message);
+        }
+    }
+}
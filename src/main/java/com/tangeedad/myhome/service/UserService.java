@@ -1,17 +1,24 @@
 package com.tangeedad.myhome.service;
 
+import com.tangeedad.myhome.dto.UserDto;
 import com.tangeedad.myhome.entity.Role;
 import com.tangeedad.myhome.entity.User;
-import com.tangeedad.myhome.repository.RoleRepository;
 import com.tangeedad.myhome.repository.UserRepository;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * UserService는 사용자 관리와 관련된 주요 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -21,14 +28,25 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final UsernameBloomFilter usernameFilter;
+    private final UsernameTrigramIndex usernameIndex;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder,
+                       CustomUserDetailsService userDetailsService, UsernameBloomFilter usernameFilter,
+                       UsernameTrigramIndex usernameIndex, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.usernameFilter = usernameFilter;
+        this.usernameIndex = usernameIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -45,33 +63,140 @@ public class UserService {
     }
 
     /**
-     * 사용자 이름으로 검색된 사용자 목록을 반환합니다.
+     * ID 순서로 afterId 다음 사용자들을 조회합니다 (키셋 페이지네이션).
+     *
+     * @param afterId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 역할이 채워진 사용자 DTO 목록
+     */
+    public List<UserDto> getUserPage(Long afterId, int size) {
+        try {
+            List<UserDto> users = userRepository.findUserRowsAfter(afterId == null ? 0L : afterId, Limit.of(size));
+            fillRoles(users);
+            return users;
+        } catch (Exception e) {
+            throw new RuntimeException("사용자 페이지 조회에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 모든 사용자를 ID 순서로 batchSize씩 키셋 페이지로 읽어 전달합니다.
+     * 페이지마다 짧은 읽기 전용 트랜잭션에서 사용자 행과 역할(IN 쿼리 1회)을 읽고 결과 집합을 닫은 뒤 콜백을 호출하므로,
+     * 열린 커서 위에서 다른 쿼리를 실행하지 않고 느린 클라이언트에 쓰는 동안 커넥션을 붙잡지도 않습니다.
+     * 메모리 사용량은 테이블 크기와 무관하게 batchSize에 비례합니다.
+     *
+     * @param batchSize 배치 크기
+     * @param batchConsumer 역할이 채워진 사용자 배치를 받는 콜백
+     */
+    public void streamAllUsers(int batchSize, Consumer<List<UserDto>> batchConsumer) {
+        long afterId = 0L;
+        while (true) {
+            long from = afterId;
+            List<UserDto> batch = readOnlyTransaction.execute(status -> {
+                List<UserDto> users = userRepository.findUserRowsAfter(from, Limit.of(batchSize));
+                fillRoles(users);
+                return users;
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+            batchConsumer.accept(batch);
+            if (batch.size() < batchSize) {
+                return;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    // 사용자 목록의 역할 이름을 한 번의 IN 쿼리로 채움
+    private void fillRoles(List<UserDto> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<Long, UserDto> byId = new HashMap<>();
+        users.forEach(user -> byId.put(user.getId(), user));
+        for (Object[] row : userRepository.findRoleNamesByUserIds(byId.keySet())) {
+            byId.get((Long) row[0]).getRoles().add((String) row[1]);
+        }
+    }
+
+    /**
+     * 사용자 이름으로 검색된 사용자 목록을 ID 순서의 키셋 페이지로 반환합니다.
      *
      * @param username 검색할 사용자 이름
+     * @param afterId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param size 페이지 크기
      * @return 검색된 사용자 목록
      */
-    public List<User> findUsersByUsername(String username) {
+    public List<User> findUsersByUsername(String username, Long afterId, int size) {
+        long after = afterId == null ? 0L : afterId;
         try {
-            return userRepository.findByUsernameContaining(username);
+            if (usernameIndex.isLoaded() && username != null) {
+                return findAllByIdInOrder(usernameIndex.findIdsContaining(username, after, size));
+            }
+            return userRepository.findByUsernameContainingAndIdGreaterThanOrderByIdAsc(username, after, Limit.of(size));
         } catch (Exception e) {
             throw new RuntimeException("사용자 이름으로 검색 중 오류가 발생했습니다.", e);
         }
     }
 
     /**
-     * 사용자 이름으로 JPQL 쿼리를 실행하여 사용자 목록을 반환합니다.
+     * 사용자 이름으로 JPQL 쿼리를 실행하여 사용자 목록을 ID 순서의 키셋 페이지로 반환합니다.
      *
      * @param username 검색할 사용자 이름
+     * @param afterId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param size 페이지 크기
      * @return 검색된 사용자 목록
      */
-    public List<User> getUserByUsernameQuery(String username) {
+    public List<User> getUserByUsernameQuery(String username, Long afterId, int size) {
+        long after = afterId == null ? 0L : afterId;
         try {
-            return userRepository.findByUsernameQuery(username);
+            if (usernameIndex.isLoaded() && username != null) {
+                return findAllByIdInOrder(usernameIndex.findIdsContaining(username, after, size));
+            }
+            return userRepository.findByUsernameQueryAfter(username, after, Limit.of(size));
         } catch (Exception e) {
             throw new RuntimeException("사용자 이름으로 JPQL 쿼리 실행 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 사용자 이름이 접두어로 시작하는 사용자 목록을 ID 순서의 키셋 페이지로 반환합니다.
+     *
+     * @param prefix 사용자 이름 접두어
+     * @param afterId 이전 페이지의 마지막 사용자 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 검색된 사용자 목록
+     */
+    public List<User> findUsersByUsernamePrefix(String prefix, Long afterId, int size) {
+        long after = afterId == null ? 0L : afterId;
+        try {
+            if (usernameIndex.isLoaded()) {
+                return findAllByIdInOrder(usernameIndex.findIdsStartingWith(prefix, after, size));
+            }
+            return userRepository.findByUsernameStartingWithAndIdGreaterThanOrderByIdAsc(prefix, after, Limit.of(size));
+        } catch (Exception e) {
+            throw new RuntimeException("사용자 이름 접두어로 검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 색인에서 찾은 ID 목록을 한 번의 IN 쿼리로 조회하고 ID 순서를 유지
+    private List<User> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, User> byId = new HashMap<>();
+        userRepository.findAllById(ids).forEach(user -> byId.put(user.getId(), user));
+        List<User> users = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            User user = byId.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
     /**
      * ID를 기준으로 사용자 정보를 조회합니다.
      *
@@ -97,7 +222,13 @@ public class UserService {
             if (user.getPassword() != null && !user.getPassword().isEmpty()) {
                 user.setPassword(passwordEncoder.encode(user.getPassword()));
             }
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            usernameFilter.put(savedUser.getUsername());
+            usernameIndex.add(savedUser.getId(), savedUser.getUsername());
+            // 사용자 이름이 바뀐 경우를 위해 ID 기준으로도 캐시 제거
+            userDetailsService.evictUserById(savedUser.getId());
+            userDetailsService.evictUser(savedUser.getUsername());
+            return savedUser;
         } catch (Exception e) {
             throw new RuntimeException("사용자 저장 중 오류가 발생했습니다.", e);
         }
@@ -112,6 +243,8 @@ public class UserService {
         try {
             if (userRepository.existsById(id)) {
                 userRepository.deleteById(id);
+                userDetailsService.evictUserById(id);
+                usernameIndex.remove(id);
             } else {
                 throw new IllegalArgumentException("해당 ID의 사용자를 찾을 수 없습니다: " + id);
             }
@@ -120,6 +253,29 @@ public class UserService {
         }
     }
 
+    /**
+     * 사용자를 물리적으로 삭제하지 않고 비활성화합니다.
+     *
+     * @param id 비활성화할 사용자 ID
+     * @return 사용자가 존재하여 비활성화되었으면 true
+     */
+    public boolean deactivateUser(Long id) {
+        try {
+            Optional<User> user = userRepository.findById(id);
+            if (user.isEmpty()) {
+                return false;
+            }
+            User existingUser = user.get();
+            existingUser.setEnabled(false);
+            // 이미 암호화된 비밀번호가 다시 암호화되지 않도록 saveUser를 거치지 않음
+            userRepository.save(existingUser);
+            userDetailsService.evictUserById(id);
+            return true;
+        } catch (Exception e) {
+            throw new RuntimeException("사용자 비활성화 중 오류가 발생했습니다.", e);
+        }
+    }
+
     /**
      * 사용자 ID로 해당 사용자가 존재하는지 확인합니다.
      *
@@ -148,6 +304,24 @@ public class UserService {
         }
     }
 
+    /**
+     * 사용자 이름이 이미 사용 중인지 확인합니다.
+     * 블룸 필터가 확실히 없다고 답하면 DB를 조회하지 않습니다.
+     *
+     * @param username 확인할 사용자 이름
+     * @return 사용 중이면 true
+     */
+    public boolean isUsernameTaken(String username) {
+        if (!usernameFilter.mightContain(username)) {
+            return false;
+        }
+        try {
+            return userRepository.findByUsername(username) != null;
+        } catch (Exception e) {
+            throw new RuntimeException("사용자 이름 중복 확인 중 오류가 발생했습니다.", e);
+        }
+    }
+
     /**
      * 새로운 사용자를 등록합니다. 기본적으로 ROLE_USER 권한을 부여합니다.
      *
@@ -155,14 +329,14 @@ public class UserService {
      * @return 등록 성공 여부
      */
     public boolean registerUser(User user) {
-        if (userRepository.findByUsername(user.getUsername()) != null) {
+        if (isUsernameTaken(user.getUsername())) {
             return false; // 사용자 이름 중복
         }
 
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
         try {
-            Role userRole = roleRepository.findByName("ROLE_USER");
+            Role userRole = roleRegistry.findByName("ROLE_USER");
             if (userRole == null) {
                 throw new IllegalStateException("ROLE_USER 역할이 시스템에 존재하지 않습니다.");
             }
@@ -171,7 +345,11 @@ public class UserService {
             user.getRoles().add(userRole);
 
             userRepository.save(user);
+            usernameFilter.put(user.getUsername());
+            usernameIndex.add(user.getId(), user.getUsername());
             return true; // 회원가입 성공
+        } catch (DataIntegrityViolationException e) {
+            return false; // 필터 확인 이후 동시에 가입된 경우 유니크 인덱스에서 중복 확인
         } catch (Exception e) {
             throw new RuntimeException("사용자 등록 중 오류가 발생했습니다.", e);
         }
@@ -0,0 +1,137 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.repository.UserRepository;
+import com.tangeedad.myhome.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static com.tangeedad.myhome.util.UsernameNormalizer.normalize;
+
+/**
+ * UsernameBloomFilter는 가입된 사용자 이름의 블룸 필터를 유지하여 중복 확인 쿼리를 줄입니다.
+ *
+ * 필터가 "확실히 없음"이라고 답하면 DB 조회를 건너뛰고, 드물게 남는 경합은 users.username 유니크 인덱스가 막습니다.
+ * 시작 시 users 테이블을 스트리밍하여 필터를 만들고, 삭제나 이름 변경으로 쌓이는 오탐을 줄이기 위해 주기적으로 다시 만듭니다.
+ */
+@Component
+public class UsernameBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameBloomFilter.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    // 적재 전에는 null이며, 이때는 항상 DB를 조회
+    private volatile BloomFilter current;
+    // 재구성 중인 필터. 재구성 도중 추가되는 이름도 빠지지 않도록 양쪽에 기록
+    private volatile BloomFilter building;
+
+    private final AtomicLong skippedLookups = new AtomicLong();
+
+    public UsernameBloomFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${myhome.user.username-filter.expected-insertions:1000000}") long minExpectedInsertions,
+                               @Value("${myhome.user.username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuildQuietly();
+    }
+
+    @Scheduled(initialDelayString = "${myhome.user.username-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${myhome.user.username-filter.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuildQuietly();
+    }
+
+    /**
+     * users 테이블 전체를 스트리밍하여 새 필터를 만들고 교체합니다.
+     */
+    public synchronized void rebuild() {
+        long userCount = userRepository.count();
+        BloomFilter next = BloomFilter.create(Math.max(minExpectedInsertions, userCount * 2), falsePositiveRate);
+        building = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(username -> next.put(normalize(username)));
+                }
+            });
+            current = next;
+            log.debug("사용자 이름 블룸 필터를 재구성했습니다. users={}, bits={}, hashes={}",
+                    userCount, next.getBitCount(), next.getHashCount());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 새로 저장된 사용자 이름을 필터에 추가합니다.
+     */
+    public void put(String username) {
+        if (username == null) {
+            return;
+        }
+        String key = normalize(username);
+        BloomFilter target = current;
+        if (target != null) {
+            target.put(key);
+        }
+        BloomFilter pending = building;
+        if (pending != null) {
+            pending.put(key);
+        }
+    }
+
+    /**
+     * 사용자 이름이 존재할 가능성이 있는지 확인합니다.
+     *
+     * @return 확실히 없으면 false, 필터가 아직 적재되지 않았으면 true
+     */
+    public boolean mightContain(String username) {
+        BloomFilter target = current;
+        if (target == null || username == null) {
+            return true;
+        }
+        boolean result = target.mightContain(normalize(username));
+        if (!result) {
+            skippedLookups.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * 필터 덕분에 생략된 DB 조회 수
+     */
+    public long getSkippedLookupCount() {
+        return skippedLookups.get();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("사용자 이름 블룸 필터를 재구성하지 못했습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.tangeedad.myhome.util.UsernameNormalizer.normalize;
+
+/**
+ * UsernameTrigramIndex는 사용자 이름의 3-gram 역색인으로 LIKE '%x%' 전체 스캔을 대신합니다.
+ *
+ * 트라이그램마다 정렬된 사용자 ID 배열을 두고, 검색어의 트라이그램 배열을 교집합하여 후보를 만든 뒤
+ * 메모리의 사용자 이름으로 부분 문자열/접두어 일치를 다시 확인합니다. 배열은 갱신 시 복사하여 교체하므로
+ * 조회는 락 없이 동작하고, 같은 사용자의 갱신은 사용자 ID 항목 단위로 직렬화됩니다.
+ * 결과는 ID 오름차순 키셋 페이지로 반환하며, 호출자가 ID 목록으로 한 번에 조회합니다.
+ */
+@Component
+public class UsernameTrigramIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameTrigramIndex.class);
+    private static final long[] EMPTY = new long[0];
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 트라이그램 키 -> 정렬된 사용자 ID 배열
+    private final ConcurrentHashMap<Long, long[]> postings = new ConcurrentHashMap<>();
+    // 사용자 ID -> 정규화된 사용자 이름
+    private final ConcurrentHashMap<Long, String> usernames = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public UsernameTrigramIndex(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            load();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("사용자 이름 트라이그램 색인을 적재하지 못했습니다. DB 검색을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * users 테이블을 스트리밍하여 색인을 채웁니다.
+     */
+    public synchronized void load() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = userRepository.streamAllIdAndUsernames()) {
+                // 적재 중 먼저 반영된 변경은 덮어쓰지 않음
+                rows.forEach(row -> index((Long) row[0], (String) row[1], true));
+            }
+        });
+        loaded = true;
+        log.debug("사용자 이름 트라이그램 색인을 적재했습니다. users={}, trigrams={}", usernames.size(), postings.size());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 트라이그램 키 수 (테스트용)
+    int trigramCount() {
+        return postings.size();
+    }
+
+    /**
+     * 사용자를 추가하거나 이름 변경을 반영합니다.
+     */
+    public void add(Long id, String username) {
+        index(id, username, false);
+    }
+
+    /**
+     * 사용자를 색인에서 제거합니다.
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        usernames.computeIfPresent(id, (key, previous) -> {
+            for (Long trigram : trigrams(previous)) {
+                postings.computeIfPresent(trigram, (k, ids) -> removeId(ids, id));
+            }
+            return null;
+        });
+    }
+
+    // 사용자 ID 항목의 compute 안에서 이름과 트라이그램 목록을 함께 바꿔, 같은 사용자의 동시 갱신이 섞이지 않게 함
+    private void index(Long id, String username, boolean onlyIfAbsent) {
+        if (id == null || username == null) {
+            return;
+        }
+        String normalized = normalize(username);
+        usernames.compute(id, (key, previous) -> {
+            if (previous != null && (onlyIfAbsent || previous.equals(normalized))) {
+                return previous;
+            }
+            Set<Long> next = trigrams(normalized);
+            if (previous != null) {
+                for (Long trigram : trigrams(previous)) {
+                    if (!next.contains(trigram)) {
+                        postings.computeIfPresent(trigram, (k, ids) -> removeId(ids, id));
+                    }
+                }
+            }
+            for (Long trigram : next) {
+                postings.compute(trigram, (k, ids) -> insertId(ids == null ? EMPTY : ids, id));
+            }
+            return normalized;
+        });
+    }
+
+    /**
+     * 사용자 이름에 검색어가 포함된 사용자 중 afterId보다 큰 ID를 오름차순으로 최대 limit개 반환합니다.
+     * 결과가 limit개이면 마지막 ID를 afterId로 넘겨 다음 페이지를 조회합니다.
+     */
+    public List<Long> findIdsContaining(String text, long afterId, int limit) {
+        String query = normalize(text);
+        return search(query, name -> name.contains(query), afterId, limit);
+    }
+
+    /**
+     * 사용자 이름이 접두어로 시작하는 사용자 중 afterId보다 큰 ID를 오름차순으로 최대 limit개 반환합니다.
+     */
+    public List<Long> findIdsStartingWith(String prefix, long afterId, int limit) {
+        String query = normalize(prefix);
+        return search(query, name -> name.startsWith(query), afterId, limit);
+    }
+
+    private List<Long> search(String query, Predicate<String> matcher, long afterId, int limit) {
+        if (query.length() < 3) {
+            // 트라이그램이 없는 짧은 검색어는 메모리의 사용자 이름을 직접 확인
+            return usernames.entrySet().stream()
+                    .filter(e -> e.getKey() > afterId && matcher.test(e.getValue()))
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .limit(limit)
+                    .toList();
+        }
+
+        List<long[]> lists = new ArrayList<>();
+        for (Long key : trigrams(query)) {
+            long[] ids = postings.get(key);
+            if (ids == null || ids.length == 0) {
+                return Collections.emptyList();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+        // 가장 짧은 목록에서 afterId 다음 위치부터 훑음
+        long[] shortest = lists.get(0);
+        int start = Arrays.binarySearch(shortest, afterId);
+        start = start >= 0 ? start + 1 : -start - 1;
+
+        List<Long> result = new ArrayList<>();
+        for (int i = start; i < shortest.length && result.size() < limit; i++) {
+            long id = shortest[i];
+            if (containsAll(lists, id)) {
+                String name = usernames.get(id);
+                if (name != null && matcher.test(name)) {
+                    result.add(id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsAll(List<long[]> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (Arrays.binarySearch(lists.get(i), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] insertId(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        int insertAt = -pos - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = id;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return next;
+    }
+
+    private static long[] removeId(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null; // 빈 목록은 키째 제거
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return next;
+    }
+
+    private static Set<Long> trigrams(String normalized) {
+        Set<Long> keys = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            keys.add(((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tangeedad.myhome.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다.
+ *
+ * 트랜잭션 동기화가 활성화되어 있으면 커밋 후에 실행하고(롤백되면 실행하지 않음),
+ * 트랜잭션 밖에서 호출하면 바로 실행합니다. 캐시 무효화나 알림처럼 커밋된 데이터를 전제로 하는 작업에 사용합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
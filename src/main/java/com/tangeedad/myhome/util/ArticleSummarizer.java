@@ -0,0 +1,42 @@
+package com.tangeedad.myhome.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문에서 목록 미리보기용 요약을 만듭니다.
+ * HTML 태그를 제거하고 공백을 정리한 평문을 최대 길이로 자릅니다.
+ */
+public final class ArticleSummarizer {
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String ELLIPSIS = "…";
+
+    private ArticleSummarizer() {
+    }
+
+    /**
+     * @param content   게시글 본문 (null 허용)
+     * @param maxLength 요약 최대 길이 (문자 수, 말줄임표 포함)
+     * @return 요약, 본문이 null이면 null
+     */
+    public static String summarize(String content, int maxLength) {
+        if (content == null) {
+            return null;
+        }
+        String text = TAGS.matcher(content).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.codePointCount(0, text.length()) <= maxLength) {
+            return text;
+        }
+        int end = text.offsetByCodePoints(0, Math.max(0, maxLength - 1));
+        return text.substring(0, end).trim() + ELLIPSIS;
+    }
+}
@@ -0,0 +1,123 @@
+package com.tangeedad.myhome.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이머 휠
+ *
+ * 시각을 tickMillis 단위 틱으로 나누고, 틱 번호를 슬롯 수로 나눈 나머지 슬롯에 항목을 둡니다.
+ * advance()는 지난 틱의 슬롯만 확인하므로 항목 수와 무관하게 틱당 한 슬롯만 처리합니다.
+ * 한 바퀴 이상 먼 항목은 같은 슬롯에 남아 있다가 해당 틱이 되었을 때 꺼내집니다.
+ * schedule()이 돌려준 Timeout으로 아직 꺼내지지 않은 항목을 취소할 수 있습니다.
+ */
+public class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Timeout<T>>[] slots;
+    private long lastTick; // 마지막으로 처리한 틱
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis와 wheelSize는 0보다 커야 합니다.");
+        }
+        int slotCount = 1;
+        while (slotCount < wheelSize) {
+            slotCount <<= 1; // 슬롯 수는 2의 거듭제곱
+        }
+        this.tickMillis = tickMillis;
+        this.mask = slotCount - 1;
+        this.slots = new List[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * 항목을 deadline 시각 이후 첫 번째 틱에 꺼내지도록 등록합니다. 이미 지난 시각이면 다음 advance()에서 꺼내집니다.
+     *
+     * @return 취소용 핸들
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineMillis) {
+        long tick = Math.max(lastTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        Timeout<T> timeout = new Timeout<>(item, tick);
+        slots[(int) (tick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 아직 꺼내지지 않은 항목을 휠에서 제거합니다. 이미 꺼내졌거나 취소된 항목이면 아무것도 하지 않습니다.
+     *
+     * @return 제거했으면 true
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout == null) {
+            return false;
+        }
+        // Timeout은 동일성 비교이므로 같은 항목·틱의 다른 타이머는 지우지 않음
+        if (slots[(int) (timeout.tick & mask)].remove(timeout)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * nowMillis까지 지난 틱의 항목을 꺼내 콜백에 전달합니다. 콜백은 휠의 락 밖에서 호출됩니다.
+     *
+     * @return 꺼낸 항목 수
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        List<T> due = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = nowMillis / tickMillis;
+            if (nowTick <= lastTick) {
+                return 0;
+            }
+            // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인
+            long from = Math.max(lastTick + 1, nowTick - mask);
+            for (long tick = from; tick <= nowTick; tick++) {
+                Iterator<Timeout<T>> it = slots[(int) (tick & mask)].iterator();
+                while (it.hasNext()) {
+                    Timeout<T> entry = it.next();
+                    if (entry.tick <= nowTick) {
+                        due.add(entry.item);
+                        it.remove();
+                    }
+                }
+            }
+            lastTick = nowTick;
+            size -= due.size();
+        }
+        due.forEach(expired);
+        return due.size();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 등록된 항목의 핸들 (equals는 동일성 비교)
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long tick;
+
+        private Timeout(T item, long tick) {
+            this.item = item;
+            this.tick = tick;
+        }
+
+        public T item() {
+            return item;
+        }
+    }
+}
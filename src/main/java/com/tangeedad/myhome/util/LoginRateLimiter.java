@@ -0,0 +1,66 @@
+package com.tangeedad.myhome.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 요청을 원격 주소별, 사용자 이름별로 제한하는 컴포넌트입니다.
+ * 사용자 조회와 BCrypt 비교 이전에 호출되어 무차별 대입 요청이 CPU를 소모하지 않도록 합니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final SlidingWindowRateLimiter addressLimiter;
+    private final SlidingWindowRateLimiter usernameLimiter;
+
+    public LoginRateLimiter(
+            @Value("${myhome.login.rate-limit.per-address:20}") int perAddressLimit,
+            @Value("${myhome.login.rate-limit.per-username:10}") int perUsernameLimit,
+            @Value("${myhome.login.rate-limit.window-seconds:60}") long windowSeconds,
+            @Value("${myhome.login.rate-limit.stripes:64}") int stripes,
+            @Value("${myhome.login.rate-limit.max-keys:100000}") int maxKeys) {
+        long windowMillis = windowSeconds * 1000;
+        this.addressLimiter = new SlidingWindowRateLimiter(perAddressLimit, windowMillis, stripes, maxKeys);
+        this.usernameLimiter = new SlidingWindowRateLimiter(perUsernameLimit, windowMillis, stripes, maxKeys);
+    }
+
+    /**
+     * 로그인 시도를 기록하고 허용 여부를 반환합니다.
+     * 주소 기준으로 거부된 요청은 사용자 이름 한도를 소모하지 않습니다.
+     *
+     * @param remoteAddress 클라이언트 원격 주소
+     * @param username 로그인 시도 사용자 이름
+     * @return 허용되면 true
+     */
+    public boolean tryAcquire(String remoteAddress, String username) {
+        long now = System.currentTimeMillis();
+        if (remoteAddress != null && !addressLimiter.tryAcquire(remoteAddress, now)) {
+            return false;
+        }
+        // users.username 컬럼은 대소문자를 구분하지 않으므로 키도 소문자로 맞춤
+        return username == null || usernameLimiter.tryAcquire(username.toLowerCase(Locale.ROOT), now);
+    }
+
+    /**
+     * 제한 윈도우 길이(초)를 반환합니다. Retry-After 헤더에 사용됩니다.
+     */
+    public long getRetryAfterSeconds() {
+        return addressLimiter.getWindowMillis() / 1000;
+    }
+
+    /**
+     * 원격 주소 기준으로 거부된 로그인 시도 수
+     */
+    public long getRejectedByAddressCount() {
+        return addressLimiter.getRejectedCount();
+    }
+
+    /**
+     * 사용자 이름 기준으로 거부된 로그인 시도 수
+     */
+    public long getRejectedByUsernameCount() {
+        return usernameLimiter.getRejectedCount();
+    }
+}
@@ -0,0 +1,139 @@
+package com.tangeedad.myhome.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 요청 수를 슬라이딩 윈도우로 제한하는 인메모리 카운터입니다.
+ *
+ * 직전 윈도우와 현재 윈도우의 카운트를 경과 비율로 가중 합산하는 근사 방식을 사용하므로
+ * 키당 두 개의 카운터만 유지합니다. 키 공간은 여러 스트라이프로 나누어 각 스트라이프마다
+ * 별도의 락을 두고, 스트라이프마다 최대 키 수를 넘으면 가장 오래 사용되지 않은 키부터 제거하여
+ * 메모리 사용량을 제한합니다.
+ */
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Stripe[] stripes;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param limit 윈도우당 허용 요청 수
+     * @param windowMillis 윈도우 길이(밀리초)
+     * @param stripeCount 락 스트라이프 수 (2의 거듭제곱으로 올림)
+     * @param maxKeys 전체 최대 키 수
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int stripeCount, int maxKeys) {
+        if (limit <= 0 || windowMillis <= 0 || stripeCount <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("limit, windowMillis, stripeCount, maxKeys는 0보다 커야 합니다.");
+        }
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+        int keysPerStripe = Math.max(1, maxKeys / size);
+
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    /**
+     * 요청 한 건을 기록하고 허용 여부를 반환합니다.
+     *
+     * @param key 제한 키 (예: 원격 주소, 사용자 이름)
+     * @param nowMillis 현재 시각(밀리초)
+     * @return 허용되면 true, 한도를 초과하면 false
+     */
+    public boolean tryAcquire(String key, long nowMillis) {
+        Stripe stripe = stripeFor(key);
+        long windowStart = nowMillis - Math.floorMod(nowMillis, windowMillis);
+
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                window = new Window(windowStart);
+                stripe.windows.put(key, window);
+            }
+            window.roll(windowStart, windowMillis);
+
+            double previousWeight = 1.0 - (double) (nowMillis - windowStart) / windowMillis;
+            double estimated = window.previousCount * previousWeight + window.currentCount;
+            if (estimated >= limit) {
+                rejectedCount.increment();
+                return false;
+            }
+            window.currentCount++;
+            return true;
+        }
+    }
+
+    /**
+     * 지금까지 거부된 요청 수를 반환합니다.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 현재 추적 중인 키 수를 반환합니다.
+     */
+    public int getTrackedKeyCount() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.windows.size();
+            }
+        }
+        return total;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final LinkedHashMap<String, Window> windows;
+
+        private Stripe(int maxKeys) {
+            // access-order LinkedHashMap으로 LRU 제거
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Window {
+        private long windowStart;
+        private int currentCount;
+        private int previousCount;
+
+        private Window(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private void roll(long newWindowStart, long windowMillis) {
+            if (newWindowStart == windowStart) {
+                return;
+            }
+            // 바로 다음 윈도우면 현재 카운트를 직전 카운트로 넘기고, 그 이상 지났으면 초기화
+            previousCount = newWindowStart - windowStart == windowMillis ? currentCount : 0;
+            currentCount = 0;
+            windowStart = newWindowStart;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.tangeedad.myhome.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한과 TTL을 가진 인메모리 캐시입니다.
+ *
+ * 같은 키에 대한 동시 미스는 하나의 로더 호출로 합쳐지며, 나머지 호출자는 진행 중인 결과를 기다립니다.
+ * 로더가 null을 반환하거나 예외를 던지면 결과를 캐시하지 않습니다.
+ * 모든 항목의 TTL이 같으므로 생성 순서가 곧 만료 순서입니다. 생성 순서대로 쌓인 큐의 앞에서부터 만료된 항목을 치우고,
+ * 최대 크기를 넘으면 가장 먼저 만료될 항목부터 제거하므로 미스마다 전체를 순회하지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (불변 객체를 권장)
+ */
+public class TtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 생성(= 만료) 순서의 항목 목록. 무효화되거나 다시 로드된 항목은 앞에 도달했을 때 버림
+    private final ConcurrentLinkedQueue<Node<K, V>> expiryOrder = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictLock = new ReentrantLock();
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    public TtlCache(long ttlMillis, int maxSize) {
+        this(ttlMillis, maxSize, System::currentTimeMillis);
+    }
+
+    TtlCache(long ttlMillis, int maxSize, LongSupplier clock) {
+        if (ttlMillis <= 0 || maxSize <= 0) {
+            throw new IllegalArgumentException("ttlMillis와 maxSize는 0보다 커야 합니다.");
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료되었으면 로더로 값을 읽어 캐시합니다.
+     *
+     * @param key 키
+     * @param loader 캐시 미스 시 호출되는 로더
+     * @return 값 (로더가 null을 반환하면 null)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = clock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            return await(entry);
+        }
+
+        Entry<V> created = new Entry<>(now + ttlMillis);
+        Entry<V> winner = entries.compute(key,
+                (k, existing) -> existing != null && !existing.isExpired(now) ? existing : created);
+        if (winner != created) {
+            return await(winner);
+        }
+
+        expiryOrder.add(new Node<>(key, created));
+        evict(now);
+        try {
+            V value = loader.apply(key);
+            created.future.complete(value);
+            if (value == null) {
+                entries.remove(key, created);
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료되지 않은 캐시 값을 반환합니다. 로딩 중이거나 없으면 null을 반환합니다.
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(clock.getAsLong()) || !entry.future.isDone()
+                || entry.future.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.future.join();
+    }
+
+    /**
+     * 키에 해당하는 항목을 제거합니다.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 조건을 만족하는 항목을 모두 제거합니다. 전체를 순회하므로 쓰기 경로에서만 사용합니다.
+     * 아직 로딩 중인 항목은 값을 알 수 없고 변경 전의 값을 읽었을 수 있으므로 함께 제거합니다.
+     * 그 로드를 기다리던 호출자는 결과를 받지만 캐시에는 남지 않습니다.
+     */
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        entries.forEach((key, entry) -> {
+            if (!entry.future.isDone()) {
+                entries.remove(key, entry);
+            } else if (!entry.future.isCompletedExceptionally() && predicate.test(key, entry.future.join())) {
+                entries.remove(key, entry);
+            }
+        });
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 큐 앞에서부터 만료되었거나 이미 사라진 항목을 치우고, 크기를 넘으면 가장 오래된 항목부터 제거
+    // 다른 스레드가 정리 중이면 그 스레드에 맡기고 바로 반환
+    private void evict(long now) {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            Node<K, V> head;
+            while ((head = expiryOrder.peek()) != null) {
+                boolean live = entries.get(head.key) == head.entry;
+                if (live && !head.entry.isExpired(now) && entries.size() <= maxSize) {
+                    break;
+                }
+                expiryOrder.poll();
+                if (live) {
+                    entries.remove(head.key, head.entry);
+                }
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    private V await(Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Node<K, V>(K key, Entry<V> entry) {
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final long expiresAt;
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
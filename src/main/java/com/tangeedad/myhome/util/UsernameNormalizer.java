@@ -0,0 +1,22 @@
+package com.tangeedad.myhome.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 이름을 메모리 색인용 키로 정규화합니다.
+ * users.username은 대소문자와 악센트를 구분하지 않는 콜레이션(utf8mb4_uca1400_ai_ci)이므로 같은 기준으로 맞춥니다.
+ */
+public final class UsernameNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+
+    private UsernameNormalizer() {
+    }
+
+    public static String normalize(String username) {
+        String decomposed = Normalizer.normalize(username, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
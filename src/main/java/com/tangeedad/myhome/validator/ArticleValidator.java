@@ -29,6 +29,8 @@ public class ArticleValidator implements Validator {
         // 내용 필수 값 검사
         if (article.getContent() == null || article.getContent().trim().isEmpty()) {
             errors.rejectValue("content", "content.empty", "내용을 입력하세요.");
+        } else if (article.getContent().codePointCount(0, article.getContent().length()) > Article.CONTENT_MAX_LENGTH) {
+            errors.rejectValue("content", "content.size", "내용은 " + Article.CONTENT_MAX_LENGTH + "자 이하여야 합니다.");
         }
 
         // startDate와 endDate 유효성 검사
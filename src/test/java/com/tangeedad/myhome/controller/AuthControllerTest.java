@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tangeedad.myhome.entity.User;
 import com.tangeedad.myhome.service.UserService;
 import com.tangeedad.myhome.util.JwtUtil;
+import com.tangeedad.myhome.util.LoginRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +17,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +40,9 @@ class AuthControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
     @InjectMocks
     private AuthController authController;
 
@@ -55,6 +63,7 @@ class AuthControllerTest {
         mockUser.setUsername("testuser");
         mockUser.setPassword("encodedpassword");
 
+        when(loginRateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
         when(userService.getUserByUsername("testuser")).thenReturn(mockUser);
         when(userService.verifyPassword("password", "encodedpassword")).thenReturn(true);
         when(jwtUtil.generateToken("testuser")).thenReturn("mocked-jwt-token");
@@ -71,6 +80,7 @@ class AuthControllerTest {
      */
     @Test
     void testLoginFailure() throws Exception {
+        when(loginRateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
         when(userService.getUserByUsername("testuser")).thenReturn(null);
 
         mockMvc.perform(post("/login")
@@ -79,6 +89,24 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    /**
+     * 로그인 테스트 - 시도 횟수 초과 시 사용자 조회 없이 429 응답 반환
+     */
+    @Test
+    void testLoginRateLimited() throws Exception {
+        when(loginRateLimiter.tryAcquire(anyString(), anyString())).thenReturn(false);
+        when(loginRateLimiter.getRetryAfterSeconds()).thenReturn(60L);
+
+        mockMvc.perform(post("/login")
+                        .param("username", "testuser")
+                        .param("password", "password"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"));
+
+        verify(userService, never()).getUserByUsername(anyString());
+        verify(userService, never()).verifyPassword(anyString(), anyString());
+    }
+
     /**
      * 회원가입 테스트 - 성공 시 201 응답 반환
      */
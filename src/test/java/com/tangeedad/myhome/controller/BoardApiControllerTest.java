@@ -2,8 +2,19 @@ package com.tangeedad.myhome.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleJson;
+import com.tangeedad.myhome.dto.ArticleListVersion;
+import com.tangeedad.myhome.dto.ArticlePatchDto;
 import com.tangeedad.myhome.entity.Article;
 import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.repository.ArticleField;
+import com.tangeedad.myhome.service.ArticleArchiveService;
+import com.tangeedad.myhome.service.ArticleEventFeed;
+import com.tangeedad.myhome.service.ArticleExportService;
+import com.tangeedad.myhome.service.ArticleImportService;
+import com.tangeedad.myhome.service.ArticleWriteCoordinator;
 import com.tangeedad.myhome.service.BoardService;
 import com.tangeedad.myhome.service.FileStorageService;
 import com.tangeedad.myhome.service.UserService;
@@ -16,19 +27,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,6 +75,21 @@ class BoardApiControllerTest {
     @Mock
     private ArticleValidator articleValidator;
 
+    @Mock
+    private ArticleImportService articleImportService;
+
+    @Mock
+    private ArticleExportService articleExportService;
+
+    @Mock
+    private ArticleArchiveService articleArchiveService;
+
+    @Mock
+    private ArticleEventFeed articleEventFeed;
+
+    @Mock
+    private ArticleWriteCoordinator articleWriteCoordinator;
+
     @InjectMocks
     private BoardApiController boardApiController;
 
@@ -72,24 +106,140 @@ class BoardApiControllerTest {
      */
     @Test
     void testGetArticles() throws Exception {
-        Article article = new Article();
-        article.setId(1L);
-        article.setTitle("Test Article");
-        article.setContent("Test Content");
-        article.setStartDate(LocalDateTime.now().minusDays(1));
-        article.setEndDate(LocalDateTime.now().plusDays(1));
+        ArticleDisplayDto article = new ArticleDisplayDto(1L, "Test Article", "Test Summary",
+                LocalDateTime.now().minusDays(1), 0, "testuser");
 
-        Page<Article> page = new PageImpl<>(Collections.singletonList(article));
+        when(boardService.getArticleDisplays(any(), any())).thenReturn(List.of(article));
+        when(boardService.countArticles(any())).thenReturn(42L);
+        when(boardService.getListVersion()).thenReturn(new ArticleListVersion(42L, 0L));
 
-        when(boardService.getArticles(any(), any())).thenReturn(page);
-
-        mockMvc.perform(get("/api/articles")
+        String eTag = mockMvc.perform(get("/api/articles")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "42"))
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"l")))
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].title").value("Test Article"))
-                .andExpect(jsonPath("$[0].content").value("Test Content"));
+                .andExpect(jsonPath("$[0].summary").value("Test Summary"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 같은 ETag로 다시 요청하면 목록을 조회하지 않고 304
+        Mockito.clearInvocations(boardService);
+        mockMvc.perform(get("/api/articles")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        Mockito.verify(boardService, Mockito.never()).getArticleDisplays(any(), any());
+    }
+
+    /**
+     * 필드를 지정한 게시글 목록 조회 테스트 - 선택한 컬럼만 반환
+     */
+    @Test
+    void testGetArticlesWithFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Test Article");
+
+        when(boardService.getArticleFields(any(), any(), eq(EnumSet.of(ArticleField.ID, ArticleField.TITLE))))
+                .thenReturn(List.of(row));
+        when(boardService.getListVersion()).thenReturn(new ArticleListVersion(0L, 0L));
+
+        mockMvc.perform(get("/api/articles").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Test Article"))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    /**
+     * 필드를 지정한 게시글 상세 조회 테스트 - files는 첨부파일 포함 여부로 해석
+     */
+    @Test
+    void testGetArticleByIdWithFields() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("readCount", 3L);
+        row.put("files", List.of());
+
+        when(boardService.getArticleFieldsById(1L, EnumSet.of(ArticleField.ID, ArticleField.READ_COUNT), true))
+                .thenReturn(Optional.of(row));
+
+        mockMvc.perform(get("/api/articles/1").param("fields", "readCount,files"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.readCount").value(3))
+                .andExpect(jsonPath("$.files").isArray())
+                .andExpect(jsonPath("$.title").doesNotExist());
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회 테스트 - 선택한 필드만 반환하고 다음 커서를 헤더에 담음
+     */
+    @Test
+    void testGetArticlesByAuthor() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 7L);
+        row.put("title", "Author Article");
+
+        when(boardService.getArticlesByAuthor(eq(3L), eq(10L), eq(1),
+                eq(EnumSet.of(ArticleField.ID, ArticleField.TITLE)))).thenReturn(List.of(row));
+
+        mockMvc.perform(get("/api/articles/authors/3")
+                        .param("beforeId", "10")
+                        .param("size", "1")
+                        .param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "7"))
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].title").value("Author Article"))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+
+        mockMvc.perform(get("/api/articles/authors/3").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 여러 게시글 일괄 조회 테스트 - 서비스가 돌려준 요청 순서를 유지
+     */
+    @Test
+    void testGetArticlesByIds() throws Exception {
+        Article first = new Article();
+        first.setId(5L);
+        first.setTitle("Fifth");
+        Article second = new Article();
+        second.setId(2L);
+        second.setTitle("Second");
+
+        when(boardService.getArticlesByIds(List.of(5L, 2L)))
+                .thenReturn(List.of(new ArticleDto(first), new ArticleDto(second)));
+
+        mockMvc.perform(get("/api/articles/batch").param("ids", "5,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(5))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    /**
+     * 보관 게시글 조회 테스트 - 없는 ID는 404
+     */
+    @Test
+    void testGetArchivedArticle() throws Exception {
+        ArticleDto archived = new ArticleDto();
+        archived.setId(3L);
+        archived.setTitle("Archived Article");
+
+        when(articleArchiveService.findArchivedArticle(3L)).thenReturn(Optional.of(archived));
+        when(articleArchiveService.findArchivedArticle(4L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/articles/archive/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Archived Article"));
+
+        mockMvc.perform(get("/api/articles/archive/4"))
+                .andExpect(status().isNotFound());
     }
 
     /**
@@ -102,13 +252,50 @@ class BoardApiControllerTest {
         article.setTitle("Test Article");
         article.setContent("Test Content");
 
-        when(boardService.getArticleById(1L)).thenReturn(Optional.of(article));
+        ArticleJson json = ArticleJson.of(new ArticleDto(article), objectMapper);
+        when(boardService.getArticleDetail(1L)).thenReturn(Optional.of(json));
 
         mockMvc.perform(get("/api/articles/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Test Article"))
                 .andExpect(jsonPath("$.content").value("Test Content"));
+
+        mockMvc.perform(get("/api/articles/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(json.getGzip()));
+    }
+
+    /**
+     * 조건부 상세 조회 테스트 - ETag가 일치하면 본문을 만들지 않고 304 반환
+     */
+    @Test
+    void testGetArticleByIdNotModified() throws Exception {
+        String eTag = "W/\"a1-v3\"";
+        when(boardService.getArticleVersion(1L)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/articles/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"a1-v2\", \"a1-v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        Mockito.verify(boardService, Mockito.never()).getArticleDetail(any());
+    }
+
+    /**
+     * 이벤트 구독 테스트 - Last-Event-ID를 전달하고, 구독자가 가득 차면 503
+     */
+    @Test
+    void testStreamEvents() throws Exception {
+        when(articleEventFeed.subscribe("abc-5")).thenReturn(Optional.of(new SseEmitter()));
+        when(articleEventFeed.subscribe(null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/articles/events").header("Last-Event-ID", "abc-5"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/api/articles/events"))
+                .andExpect(status().isServiceUnavailable());
     }
 
     /**
@@ -134,7 +321,7 @@ class BoardApiControllerTest {
 
         when(jwtUtil.extractUsername(any())).thenReturn("testuser");
         when(userService.getUserByUsername("testuser")).thenReturn(user);
-        when(boardService.saveArticle(any(Article.class))).thenReturn(article);
+        when(articleWriteCoordinator.create(any(Article.class))).thenReturn(article);
 
         mockMvc.perform(multipart("/api/articles")
                         .file(articlePart)
@@ -187,6 +374,102 @@ class BoardApiControllerTest {
                 .andExpect(jsonPath("$.title").value("Updated Title"));
     }
 
+    /**
+     * 게시글 수정 테스트 - 다른 요청이 먼저 수정했으면 409
+     */
+    @Test
+    void testUpdateArticleConflict() throws Exception {
+        Article existingArticle = new Article();
+        existingArticle.setId(1L);
+        existingArticle.setTitle("Existing Title");
+
+        Article updatedArticle = new Article();
+        updatedArticle.setTitle("Updated Title");
+        updatedArticle.setContent("Updated Content");
+
+        MockMultipartFile articlePart = new MockMultipartFile(
+                "article", "article.json", MediaType.APPLICATION_JSON_VALUE,
+                objectMapper.writeValueAsBytes(updatedArticle)
+        );
+
+        when(jwtUtil.extractUsername(any())).thenReturn("testuser");
+        when(userService.getUserByUsername("testuser")).thenReturn(new User());
+        when(boardService.getArticleById(1L)).thenReturn(Optional.of(existingArticle));
+        when(boardService.saveArticle(any(Article.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Article.class, 1L));
+
+        mockMvc.perform(multipart("/api/articles/1")
+                        .file(articlePart)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                        .with(request -> {
+                            request.setMethod("PUT");
+                            return request;
+                        }))
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * 게시글 부분 수정 테스트 - 보낸 필드만 전달하고, 보낸 버전이 맞지 않으면 412, 버전 없이 충돌하면 409
+     */
+    @Test
+    void testPatchArticle() throws Exception {
+        Article patched = new Article("Patched Title", "content", null, null);
+        patched.setId(1L);
+        patched.setVersion(4L);
+
+        when(jwtUtil.extractUsername(any())).thenReturn("testuser");
+        when(userService.getUserByUsername("testuser")).thenReturn(new User());
+        when(boardService.patchArticle(eq(1L), any(ArticlePatchDto.class))).thenAnswer(invocation -> {
+            ArticlePatchDto patch = invocation.getArgument(1);
+            if (patch.getContent() != null || !Long.valueOf(3L).equals(patch.getVersion())) {
+                throw new OptimisticLockingFailureException("version mismatch");
+            }
+            return Optional.of(new ArticleDto(patched));
+        });
+
+        mockMvc.perform(patch("/api/articles/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Patched Title\",\"version\":3}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Patched Title"))
+                .andExpect(jsonPath("$.version").value(4));
+
+        mockMvc.perform(patch("/api/articles/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Patched Title\",\"version\":2}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/articles/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Patched Title\"}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(patch("/api/articles/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\":3}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 게시글 부분 수정 테스트 - 내용이 최대 길이(코드 포인트 기준)를 넘으면 저장하지 않고 400
+     */
+    @Test
+    void testPatchArticleContentTooLong() throws Exception {
+        String content = "😀".repeat(Article.CONTENT_MAX_LENGTH + 1);
+
+        mockMvc.perform(patch("/api/articles/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"" + content + "\"}")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token"))
+                .andExpect(status().isBadRequest());
+
+        verify(boardService, never()).patchArticle(any(), any());
+    }
+
     /**
      * 게시글 삭제 테스트
      */
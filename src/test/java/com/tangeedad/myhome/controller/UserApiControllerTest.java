@@ -1,6 +1,7 @@
 package com.tangeedad.myhome.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.UserDto;
 import com.tangeedad.myhome.entity.User;
 import com.tangeedad.myhome.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,18 +51,65 @@ class UserApiControllerTest {
      */
     @Test
     void testGetUsers() throws Exception {
-        User user1 = new User();
-        user1.setUsername("user1");
+        UserDto user1 = new UserDto(1L, "user1", "pw", true);
+        UserDto user2 = new UserDto(2L, "user2", "pw", true);
 
-        User user2 = new User();
-        user2.setUsername("user2");
-
-        when(userService.getAllUsers()).thenReturn(Arrays.asList(user1, user2));
+        when(userService.getUserPage(null, 100)).thenReturn(Arrays.asList(user1, user2));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].username").value("user1"))
-                .andExpect(jsonPath("$[1].username").value("user2"));
+                .andExpect(jsonPath("$[1].username").value("user2"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    /**
+     * 사용자 목록 키셋 페이지 조회 테스트 - 페이지가 가득 차면 다음 커서 반환
+     */
+    @Test
+    void testGetUsersNextCursor() throws Exception {
+        UserDto user3 = new UserDto(3L, "user3", "pw", true);
+        UserDto user4 = new UserDto(4L, "user4", "pw", true);
+
+        when(userService.getUserPage(2L, 2)).thenReturn(Arrays.asList(user3, user4));
+
+        mockMvc.perform(get("/api/users")
+                        .param("afterId", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(header().string("X-Next-Cursor", "4"));
+    }
+
+    /**
+     * 사용자 이름 검색 테스트 - 검색 결과도 키셋 페이지로 잘리고 다음 커서 반환
+     */
+    @Test
+    void testSearchUsersNextCursor() throws Exception {
+        User user5 = new User();
+        user5.setId(5L);
+        user5.setUsername("member5");
+        User user9 = new User();
+        user9.setId(9L);
+        user9.setUsername("member9");
+
+        when(userService.findUsersByUsername("member", 3L, 2)).thenReturn(Arrays.asList(user5, user9));
+        when(userService.findUsersByUsernamePrefix("member", null, 100)).thenReturn(Arrays.asList(user5, user9));
+
+        mockMvc.perform(get("/api/users")
+                        .param("username", "member")
+                        .param("afterId", "3")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].username").value("member9"))
+                .andExpect(header().string("X-Next-Cursor", "9"));
+
+        mockMvc.perform(get("/api/users")
+                        .param("username", "member")
+                        .param("method", "prefix"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
     }
 
     /**
@@ -90,7 +138,7 @@ class UserApiControllerTest {
         newUser.setUsername("newuser");
         newUser.setPassword("password");
 
-        when(userService.getUserByUsername("newuser")).thenReturn(null);
+        when(userService.isUsernameTaken("newuser")).thenReturn(false);
         when(userService.saveUser(any(User.class))).thenReturn(newUser);
 
         mockMvc.perform(post("/api/users")
@@ -128,13 +176,7 @@ class UserApiControllerTest {
      */
     @Test
     void testDeactivateUser() throws Exception {
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("user1");
-        user.setEnabled(true);
-
-        when(userService.getUserById(1L)).thenReturn(Optional.of(user));
-        when(userService.saveUser(any(User.class))).thenReturn(user);
+        when(userService.deactivateUser(1L)).thenReturn(true);
 
         mockMvc.perform(delete("/api/users/1"))
                 .andExpect(status().isNoContent());
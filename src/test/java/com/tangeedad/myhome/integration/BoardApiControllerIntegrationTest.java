@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tangeedad.myhome.entity.Article;
 import com.tangeedad.myhome.entity.Role;
 import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.repository.BoardRepository;
 import com.tangeedad.myhome.service.BoardService;
 import com.tangeedad.myhome.service.RoleService;
 import com.tangeedad.myhome.service.UserService;
@@ -13,7 +14,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -38,6 +38,9 @@ class BoardApiControllerIntegrationTest {
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private BoardRepository boardRepository;
+
     @Autowired
     private UserService userService;
 
@@ -52,8 +55,7 @@ class BoardApiControllerIntegrationTest {
     @BeforeEach
     void setup() {
         // 초기화 전 데이터 클리어
-        boardService.getArticles(null, PageRequest.of(0, Integer.MAX_VALUE)) // Pageable 객체 추가
-                .forEach(article -> boardService.deleteArticle(article.getId()));
+        boardRepository.findAll().forEach(article -> boardService.deleteArticle(article.getId()));
         userService.getAllUsers().forEach(user -> userService.deleteUserById(user.getId()));
         roleService.getAllRoles().forEach(role -> roleService.deleteRole(role.getId()));
 
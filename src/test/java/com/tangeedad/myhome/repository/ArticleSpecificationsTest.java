@@ -0,0 +1,222 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.dto.ArticleDisplayDto;
+import com.tangeedad.myhome.dto.ArticleSearchCondition;
+import com.tangeedad.myhome.entity.Article;
+import com.tangeedad.myhome.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleSpecifications 테스트 클래스
+ * 검색 결과와 함께 생성된 SQL의 WHERE 절 순서와 괄호를 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tangeedad.myhome.repository.ArticleSpecificationsTest$SqlCapture"
+})
+class ArticleSpecificationsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setup() {
+        alice = persistUser("alice");
+        bob = persistUser("bob");
+
+        persistArticle("Spring tips", "visible", alice, NOW.minusDays(1), NOW.plusDays(1), 5);
+        persistArticle("Spring expired", "old", alice, NOW.minusDays(10), NOW.minusDays(5), 50);
+        persistArticle("Java news", "about spring boot", bob, NOW.minusDays(1), NOW.plusDays(1), 20);
+        persistArticle("100% sale", "discount", bob, NOW.minusDays(1), NOW.plusDays(1), 1);
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE articles SET reg_date = start_date").executeUpdate();
+        entityManager.clear();
+
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    /**
+     * 게시 기간 조건이 WHERE 절 맨 앞에 오는지 확인
+     */
+    @Test
+    void testVisibilityPredicateComesFirst() {
+        ArticleSearchCondition condition = new ArticleSearchCondition("spring");
+        condition.setMinReadCount(1L);
+
+        boardRepository.findAll(ArticleSpecifications.of(condition, NOW));
+
+        String where = lastWhereClause();
+        assertThat(where).startsWith("start_date<? and end_date>? and ");
+        assertThat(where).contains("(title like ? escape '\\' or content like ? escape '\\')");
+        assertThat(where).endsWith("read_count>=?");
+    }
+
+    /**
+     * 제목이 일치하더라도 게시 기간이 지난 게시글은 제외되는지 확인
+     */
+    @Test
+    void testSearchTextDoesNotBypassVisibility() {
+        List<Article> articles = boardRepository.findAll(
+                ArticleSpecifications.of(new ArticleSearchCondition("pring"), NOW), Sort.by("id"));
+
+        assertThat(articles).extracting(Article::getTitle).containsExactly("Spring tips", "Java news");
+    }
+
+    /**
+     * 작성자 조건은 users 테이블을 조인하지 않고 user_id로 비교하는지 확인
+     */
+    @Test
+    void testAuthorFilterUsesForeignKeyColumn() {
+        ArticleSearchCondition condition = new ArticleSearchCondition();
+        condition.setAuthorId(bob.getId());
+
+        List<Article> articles = boardRepository.findAll(ArticleSpecifications.of(condition, NOW), Sort.by("id"));
+
+        assertThat(articles).extracting(Article::getTitle).containsExactly("Java news", "100% sale");
+        assertThat(lastSelect()).doesNotContain(" join ");
+        assertThat(lastWhereClause()).isEqualTo("start_date<? and end_date>? and user_id=?");
+    }
+
+    /**
+     * 등록일 구간과 최소 조회수 조건을 함께 적용
+     */
+    @Test
+    void testRegDateRangeAndMinReadCount() {
+        ArticleSearchCondition condition = new ArticleSearchCondition();
+        condition.setRegDateFrom(NOW.minusDays(2));
+        condition.setRegDateTo(NOW);
+        condition.setMinReadCount(5L);
+
+        List<Article> articles = boardRepository.findAll(ArticleSpecifications.of(condition, NOW), Sort.by("id"));
+
+        assertThat(articles).extracting(Article::getTitle).containsExactly("Spring tips", "Java news");
+        assertThat(lastWhereClause())
+                .isEqualTo("start_date<? and end_date>? and reg_date>=? and reg_date<? and read_count>=?");
+    }
+
+    /**
+     * LIKE 특수 문자가 검색어 그대로 비교되는지 확인
+     */
+    @Test
+    void testLikeWildcardsAreEscaped() {
+        List<Article> articles = boardRepository.findAll(
+                ArticleSpecifications.of(new ArticleSearchCondition("100%"), NOW));
+
+        assertThat(articles).extracting(Article::getTitle).containsExactly("100% sale");
+        assertThat(boardRepository.findAll(ArticleSpecifications.of(new ArticleSearchCondition("_"), NOW))).isEmpty();
+    }
+
+    /**
+     * 선택한 컬럼만 조회하고 키셋 커서 이후의 게시글을 최신 글부터 반환하는지 확인
+     */
+    @Test
+    void testFindFieldsSelectsOnlyRequestedColumns() {
+        List<Map<String, Object>> firstPage = boardRepository.findFields(
+                ArticleSpecifications.visibleAt(NOW).and(ArticleSpecifications.writtenBy(bob.getId())),
+                EnumSet.of(ArticleField.ID, ArticleField.TITLE),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(firstPage).hasSize(1);
+        assertThat(firstPage.get(0)).containsOnlyKeys("id", "title").containsEntry("title", "100% sale");
+        String select = lastSelect();
+        assertThat(select.substring(0, select.indexOf(" from "))).doesNotContain("content");
+
+        Long cursor = (Long) firstPage.get(0).get("id");
+        List<Map<String, Object>> nextPage = boardRepository.findFields(
+                ArticleSpecifications.visibleAt(NOW)
+                        .and(ArticleSpecifications.writtenBy(bob.getId()))
+                        .and(ArticleSpecifications.idLessThan(cursor)),
+                EnumSet.of(ArticleField.ID, ArticleField.TITLE),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(nextPage).extracting(row -> row.get("title")).containsExactly("Java news");
+    }
+
+    /**
+     * 목록 표시용 조회는 본문 대신 요약을 읽는지 확인
+     */
+    @Test
+    void testFindDisplayRowsReadsSummaryInsteadOfContent() {
+        List<ArticleDisplayDto> rows = boardRepository.findDisplayRows(
+                ArticleSpecifications.of(new ArticleSearchCondition(), NOW),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(rows).extracting(ArticleDisplayDto::getTitle)
+                .containsExactly("100% sale", "Java news", "Spring tips");
+        assertThat(rows).extracting(ArticleDisplayDto::getUserName).containsExactly("bob", "bob", "alice");
+        String select = lastSelect();
+        assertThat(select.substring(0, select.indexOf(" from "))).contains("summary").doesNotContain("content");
+    }
+
+    private User persistUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistArticle(String title, String content, User user,
+                                LocalDateTime startDate, LocalDateTime endDate, long readCount) {
+        Article article = new Article(title, content, startDate, endDate);
+        article.setUser(user);
+        article.setReadCount(readCount);
+        entityManager.persist(article);
+    }
+
+    private static String lastSelect() {
+        return SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    // 테이블 별칭(a1_0.)을 제거한 WHERE 절 (ORDER BY 앞까지)
+    private static String lastWhereClause() {
+        String sql = lastSelect();
+        String where = sql.substring(sql.indexOf(" where ") + " where ".length());
+        int orderBy = where.indexOf(" order by ");
+        if (orderBy >= 0) {
+            where = where.substring(0, orderBy);
+        }
+        return where.replaceAll("\\b[a-z]\\d+_\\d+\\.", "").trim();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.replaceAll("\\s+", " ").trim().toLowerCase());
+            return sql;
+        }
+    }
+}
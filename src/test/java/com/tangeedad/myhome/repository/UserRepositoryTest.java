@@ -0,0 +1,105 @@
+package com.tangeedad.myhome.repository;
+
+import com.tangeedad.myhome.entity.Role;
+import com.tangeedad.myhome.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserRepository 쿼리 수 회귀 테스트 클래스
+ * 사용자 목록 조회 시 역할이 사용자마다 따로 조회되지 않는지 SQL 실행 횟수로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserRepositoryTest {
+
+    private static final int USER_COUNT = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        Role userRole = new Role();
+        userRole.setName("ROLE_USER");
+        entityManager.persist(userRole);
+
+        Role adminRole = new Role();
+        adminRole.setName("ROLE_ADMIN");
+        entityManager.persist(adminRole);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.getRoles().add(userRole);
+            if (i % 10 == 0) {
+                user.getRoles().add(adminRole);
+            }
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * 사용자 100명 전체 조회 - 사용자 1회 + 역할 1회
+     */
+    @Test
+    void testFindAllLoadsRolesInOneBatch() {
+        List<User> users = userRepository.findAll();
+
+        assertThat(users).hasSize(USER_COUNT);
+        assertThat(users).allSatisfy(user -> assertThat(user.getRoles()).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * 사용자 이름 검색 - 사용자 1회 + 역할 1회
+     */
+    @Test
+    void testFindByUsernameContainingLoadsRolesInOneBatch() {
+        List<User> users = userRepository.findByUsernameContaining("user");
+
+        assertThat(users).hasSize(USER_COUNT);
+        assertThat(users.stream().mapToInt(user -> user.getRoles().size()).sum()).isEqualTo(USER_COUNT + 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * 사용자 이름 검색 키셋 페이지 - ID 순서로 잘리고 마지막 ID 다음부터 이어짐
+     */
+    @Test
+    void testFindByUsernameContainingPaging() {
+        List<User> first = userRepository.findByUsernameContainingAndIdGreaterThanOrderByIdAsc("user", 0L, Limit.of(30));
+        List<User> second = userRepository.findByUsernameContainingAndIdGreaterThanOrderByIdAsc(
+                "user", first.get(first.size() - 1).getId(), Limit.of(USER_COUNT));
+
+        assertThat(first).hasSize(30);
+        assertThat(second).hasSize(USER_COUNT - 30);
+        assertThat(second.get(0).getId()).isGreaterThan(first.get(29).getId());
+        assertThat(second).extracting(User::getId).isSorted();
+        assertThat(userRepository.findByUsernameQueryAfter("user", 0L, Limit.of(5))).hasSize(5);
+    }
+}
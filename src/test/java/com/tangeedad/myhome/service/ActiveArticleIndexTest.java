@@ -0,0 +1,235 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ActiveArticleIndex 단위 테스트 클래스
+ * 게시 기간 경계 판정, advance()에 의한 시작/종료 반영, 타이머 정리, 적재 중 제거, 개수 점검 후 재적재,
+ * 동시 갱신/제거를 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActiveArticleIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong now = new AtomicLong(toMillis(BASE));
+    private ActiveArticleIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ActiveArticleIndex(boardRepository, transactionManager, new ObjectMapper(), 1000, 64, now::get);
+    }
+
+    /**
+     * 경계 비교는 엄격하므로 시작 시각과 같으면 아직 게시 전이고, 종료 시각과 같으면 이미 종료된 것이다
+     */
+    @Test
+    void testWindowBoundaries() {
+        index.upsert(1L, BASE, BASE.plusHours(1));           // 시작 시각과 같음
+        index.upsert(2L, BASE.minusHours(1), BASE.plusHours(1));
+        index.upsert(3L, BASE.minusHours(1), BASE);           // 종료 시각과 같음
+        index.upsert(4L, null, BASE.plusHours(1));            // 기간 없음
+
+        assertThat(index.findActiveIds(0, 10)).containsExactly(2L);
+        assertThat(index.getActiveCount()).isEqualTo(1);
+    }
+
+    /**
+     * 시작과 종료 경계는 advance()가 해당 틱을 지날 때 반영되고, 종료된 게시글의 타이머는 남지 않는다
+     */
+    @Test
+    void testStartAndExpiryViaAdvance() {
+        index.upsert(1L, BASE.plusSeconds(2), BASE.plusSeconds(5));
+        index.upsert(2L, BASE.minusSeconds(1), BASE.plusSeconds(3));
+        assertThat(index.findActiveIds(0, 10)).containsExactly(2L);
+
+        now.set(toMillis(BASE.plusSeconds(2)));
+        index.advance();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(2L); // 시작 시각과 같은 틱은 아직 게시 전
+
+        now.set(toMillis(BASE.plusSeconds(3)));
+        index.advance();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(1L);
+
+        now.set(toMillis(BASE.plusSeconds(5)));
+        index.advance();
+        assertThat(index.findActiveIds(0, 10)).isEmpty();
+        assertThat(index.getActiveCount()).isZero();
+        assertThat(index.pendingTimers()).isZero();
+    }
+
+    /**
+     * 타이머로 게시 여부가 바뀔 때만 마지막 경계 시각이 앞으로 간다 (저장에 따른 변경은 포함하지 않음)
+     */
+    @Test
+    void testLastBoundaryFollowsTimerTransitions() {
+        index.upsert(1L, BASE.minusSeconds(1), BASE.plusSeconds(3));
+        index.upsert(2L, BASE.plusSeconds(1), BASE.plusSeconds(10));
+        assertThat(index.getLastBoundary()).isZero();
+
+        now.set(toMillis(BASE.plusSeconds(2)));
+        index.advance();
+        assertThat(index.getLastBoundary()).isEqualTo(toMillis(BASE.plusSeconds(1))); // 2번 시작
+
+        now.set(toMillis(BASE.plusSeconds(3)));
+        index.advance();
+        assertThat(index.getLastBoundary()).isEqualTo(toMillis(BASE.plusSeconds(3))); // 1번 종료
+
+        now.set(toMillis(BASE.plusSeconds(5)));
+        index.advance(); // 바뀐 게시글 없음
+        assertThat(index.getLastBoundary()).isEqualTo(toMillis(BASE.plusSeconds(3)));
+    }
+
+    /**
+     * 같은 게시글의 기간을 여러 번 바꿔도 이전 경계 타이머는 취소되어 쌓이지 않는다
+     */
+    @Test
+    void testRescheduleCancelsStaleTimers() {
+        for (int i = 1; i <= 100; i++) {
+            index.upsert(1L, BASE.plusSeconds(i), BASE.plusSeconds(i + 10));
+        }
+        assertThat(index.pendingTimers()).isEqualTo(2);
+
+        index.upsert(1L, BASE.plusSeconds(100), BASE.plusSeconds(110)); // 같은 기간이면 그대로 사용
+        assertThat(index.pendingTimers()).isEqualTo(2);
+
+        index.remove(1L);
+        assertThat(index.pendingTimers()).isZero();
+    }
+
+    /**
+     * 적재 쿼리가 읽은 행이라도 적재 도중 제거된 게시글은 다시 추가하지 않는다
+     */
+    @Test
+    void testLoadDoesNotResurrectRemovedArticle() {
+        List<Object[]> rows = List.of(
+                new Object[]{1L, BASE.minusHours(1), BASE.plusHours(1)},
+                new Object[]{2L, BASE.minusHours(1), BASE.plusHours(1)});
+        when(boardRepository.streamWindowsEndingAfter(any())).thenReturn(
+                rows.stream().peek(row -> {
+                    if (row[0].equals(1L)) {
+                        index.remove(1L); // 쿼리가 읽은 뒤, 색인에 반영되기 전에 삭제됨
+                    }
+                }));
+
+        index.load();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(2L);
+    }
+
+    /**
+     * 적재 중 먼저 반영된 변경은 적재 쿼리의 이전 값으로 덮어쓰지 않고, 적재 후의 제거는 그대로 반영된다
+     */
+    @Test
+    void testLoadKeepsNewerUpsert() {
+        when(boardRepository.streamWindowsEndingAfter(any())).thenReturn(
+                Stream.<Object[]>of(new Object[]{1L, BASE.minusHours(1), BASE.plusHours(1)}).peek(row ->
+                        index.upsert(1L, BASE.plusHours(1), BASE.plusHours(2)))); // 쿼리가 읽은 뒤 기간이 바뀜
+
+        index.load();
+        assertThat(index.findActiveIds(0, 10)).isEmpty();
+
+        index.upsert(1L, BASE.minusHours(1), BASE.plusHours(1));
+        index.remove(1L);
+        index.upsert(1L, BASE.minusHours(1), BASE.plusHours(1));
+        assertThat(index.findActiveIds(0, 10)).containsExactly(1L);
+    }
+
+    /**
+     * 게시 중인 게시글 수가 DB와 다르면 다시 적재하여 놓친 삭제와 기간 변경을 바로잡고, 같으면 다시 적재하지 않는다
+     */
+    @Test
+    void testReconcileReloadsWhenCountDrifts() {
+        when(boardRepository.streamWindowsEndingAfter(any())).thenReturn(
+                Stream.<Object[]>of(new Object[]{1L, BASE.minusHours(1), BASE.plusHours(1)},
+                        new Object[]{2L, BASE.minusHours(1), BASE.plusHours(1)}),
+                Stream.<Object[]>of(new Object[]{1L, BASE.plusHours(1), BASE.plusHours(2)},
+                        new Object[]{3L, BASE.minusHours(1), BASE.plusHours(1)}));
+        index.load();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(2L, 1L);
+
+        // 2번 삭제와 1번 기간 변경, 3번 작성 중 3번 이벤트만 받음
+        index.upsert(3L, BASE.minusHours(1), BASE.plusHours(1));
+        when(boardRepository.countVisibleAt(any())).thenReturn(1L, 1L);
+        index.reconcile();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(3L);
+        assertThat(index.getActiveCount()).isEqualTo(1);
+
+        index.reconcile();
+        verify(boardRepository, times(2)).streamWindowsEndingAfter(any());
+    }
+
+    /**
+     * 같은 ID를 여러 스레드가 동시에 갱신/제거해도 게시 중 집합과 개수, 타이머가 어긋나지 않는다
+     */
+    @Test
+    void testConcurrentUpsertAndRemove() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 5_000; i++) {
+                    long id = random.nextLong(1, 21);
+                    if (random.nextBoolean()) {
+                        int offset = random.nextInt(-10, 10);
+                        index.upsert(id, BASE.plusSeconds(offset), BASE.plusSeconds(offset + 30));
+                    } else {
+                        index.remove(id);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(index.getActiveCount()).isEqualTo(index.findActiveIds(0, 100).size());
+        assertThat(index.pendingTimers()).isLessThanOrEqualTo(20 * 2);
+
+        for (long id = 1; id <= 20; id++) {
+            index.remove(id);
+        }
+        assertThat(index.getActiveCount()).isZero();
+        assertThat(index.findActiveIds(0, 100)).isEmpty();
+        assertThat(index.pendingTimers()).isZero();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
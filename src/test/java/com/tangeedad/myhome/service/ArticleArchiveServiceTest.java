@@ -0,0 +1,185 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ArticleArchiveService 테스트 클래스
+ * 만료된 게시글과 첨부파일의 복사/삭제, 배치 나누기, 다른 트랜잭션이 잠근 행 건너뛰기를 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 배치마다 직접 커밋
+class ArticleArchiveServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ActiveArticleIndex activeArticleIndex;
+    private ArticleOutbox articleOutbox;
+    private Long userId;
+
+    @BeforeEach
+    void setup() {
+        // 보관 테이블은 엔티티가 없으므로 readme의 DDL과 같은 컬럼으로 직접 생성
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS articles_archive (id BIGINT PRIMARY KEY, user_id BIGINT, " +
+                "title VARCHAR(255), content VARCHAR(255), summary VARCHAR(255), start_date TIMESTAMP, end_date TIMESTAMP, " +
+                "reg_date TIMESTAMP, last_update_date TIMESTAMP, read_count BIGINT, version BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS article_files_archive (id BIGINT PRIMARY KEY, article_id BIGINT, " +
+                "file_name VARCHAR(255), file_path VARCHAR(512), file_size BIGINT, file_type VARCHAR(255), " +
+                "upload_date TIMESTAMP, uploaded_by VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO users (username, password, enabled) VALUES ('writer', 'x', true)");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'writer'", Long.class);
+        activeArticleIndex = Mockito.mock(ActiveArticleIndex.class);
+        articleOutbox = Mockito.mock(ArticleOutbox.class);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM article_files_archive");
+        jdbcTemplate.update("DELETE FROM articles_archive");
+        jdbcTemplate.update("DELETE FROM article_files");
+        jdbcTemplate.update("DELETE FROM articles");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    /**
+     * 유예 기간이 지난 게시글만 첨부파일과 함께 복사된 뒤 운영 테이블에서 삭제된다
+     */
+    @Test
+    void testCopiesAndDeletesExpiredArticles() {
+        long expired = insertArticle("expired", NOW.minusDays(3));
+        insertFile(expired, "a.txt");
+        insertFile(expired, "b.txt");
+        long inGrace = insertArticle("in grace", NOW.minusHours(1));
+        long active = insertArticle("active", NOW.plusDays(1));
+
+        int moved = service(10, 10).archiveExpired();
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(ids("articles")).containsExactly(inGrace, active);
+        assertThat(ids("articles_archive")).containsExactly(expired);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_files", Integer.class)).isZero();
+
+        ArticleDto archived = service(10, 10).findArchivedArticle(expired).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo("expired");
+        assertThat(archived.getUser().getUsername()).isEqualTo("writer");
+        assertThat(archived.getFiles()).extracting("fileName").containsExactly("a.txt", "b.txt");
+
+        verify(activeArticleIndex).remove(expired);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(articleOutbox).appendAll(events.capture());
+        assertThat(events.getValue()).extracting(ArticleEvent::getType).containsExactly(ArticleEvent.Type.ARCHIVED);
+    }
+
+    /**
+     * 한 실행은 max-batches 배치까지만 옮기고 남은 게시글은 다음 실행에서 옮긴다
+     */
+    @Test
+    void testStopsAtMaxBatches() {
+        for (int i = 0; i < 5; i++) {
+            insertArticle("expired" + i, NOW.minusDays(3));
+        }
+        ArticleArchiveService service = service(2, 2);
+
+        assertThat(service.archiveExpired()).isEqualTo(4);
+        assertThat(ids("articles")).hasSize(1);
+        assertThat(service.archiveExpired()).isEqualTo(1);
+        assertThat(ids("articles")).isEmpty();
+        assertThat(ids("articles_archive")).hasSize(5);
+    }
+
+    /**
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛰며, 잠금이 풀린 뒤 실행에서 옮긴다
+     */
+    @Test
+    void testSkipsLockedRows() throws Exception {
+        long locked = insertArticle("locked", NOW.minusDays(3));
+        long free = insertArticle("free", NOW.minusDays(3));
+        ArticleArchiveService service = service(10, 10);
+
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT id FROM articles WHERE id = ? FOR UPDATE", Long.class, locked);
+            lockHeld.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(lockHeld.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(service.archiveExpired()).isEqualTo(1);
+            assertThat(ids("articles_archive")).containsExactly(free);
+            verify(activeArticleIndex, never()).remove(locked);
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+
+        assertThat(service.archiveExpired()).isEqualTo(1);
+        assertThat(ids("articles_archive")).containsExactly(locked, free);
+    }
+
+    private ArticleArchiveService service(int batchSize, int maxBatches) {
+        return new ArticleArchiveService(new NamedParameterJdbcTemplate(jdbcTemplate), transactionManager,
+                activeArticleIndex, articleOutbox, true, batchSize, 0, maxBatches, 24);
+    }
+
+    private long insertArticle(String title, LocalDateTime endDate) {
+        jdbcTemplate.update("INSERT INTO articles (user_id, title, content, start_date, end_date, reg_date, " +
+                        "last_update_date, read_count, version) VALUES (?, ?, 'c', ?, ?, ?, ?, 0, 0)",
+                userId, title, Timestamp.valueOf(endDate.minusDays(7)), Timestamp.valueOf(endDate),
+                Timestamp.valueOf(NOW), Timestamp.valueOf(NOW));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM articles", Long.class);
+    }
+
+    private void insertFile(long articleId, String fileName) {
+        jdbcTemplate.update("INSERT INTO article_files (article_id, file_name, file_path, file_size, file_type, upload_date) " +
+                "VALUES (?, ?, '/p', 1, 'text/plain', ?)", articleId, fileName, Timestamp.valueOf(NOW));
+    }
+
+    private List<Long> ids(String table) {
+        return new ArrayList<>(jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class));
+    }
+}
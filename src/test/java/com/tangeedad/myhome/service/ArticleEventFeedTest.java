@@ -0,0 +1,271 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleEventFeed 단위 테스트 클래스
+ * 전달 순서, 느린 구독자 격리, 큐 넘침과 늦은 이벤트의 resync, Last-Event-ID 재전송, 최대 구독자 수 제한을 확인합니다.
+ */
+class ArticleEventFeedTest {
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private ArticleEventFeed feed;
+
+    @AfterEach
+    void cleanup() {
+        emitters.forEach(RecordingEmitter::unblock);
+        if (feed != null) {
+            feed.shutdown();
+        }
+    }
+
+    /**
+     * 모든 구독자가 이벤트를 아웃박스 ID 순서대로 한 번씩 받는다 (재전달된 이벤트는 무시)
+     */
+    @Test
+    void testDeliversInOrderToEverySubscriber() {
+        feed = feed(1024, 256, 100, 4, 5000);
+        feed.onStart(0);
+        RecordingEmitter first = subscribe(null);
+        RecordingEmitter second = subscribe(null);
+
+        for (long from = 1; from <= 100; from += 10) {
+            feed.onArticleChanges(events(from, from + 9));
+        }
+        feed.onArticleChanges(events(95, 100)); // 재전달
+
+        List<String> expected = LongStream.rangeClosed(1, 100).mapToObj(id -> "article:" + id).toList();
+        awaitUntil(() -> first.received.size() >= 100 && second.received.size() >= 100);
+        assertThat(first.received).containsExactlyElementsOf(expected);
+        assertThat(second.received).containsExactlyElementsOf(expected);
+    }
+
+    /**
+     * 전송이 막힌 구독자가 전송 스레드를 모두 잡고 있어도, 제한 시간이 지나면 제외되고 다른 구독자는 계속 받는다
+     */
+    @Test
+    void testStalledSubscriberDoesNotBlockOthers() throws Exception {
+        feed = feed(1024, 256, 100, 1, 50); // 전송 스레드 1개
+        feed.onStart(0);
+        RecordingEmitter slow = subscribe(null);
+        slow.block();
+        RecordingEmitter fast = subscribe(null);
+
+        feed.onArticleChanges(events(1, 1));
+        assertThat(slow.entered.await(5, TimeUnit.SECONDS)).isTrue(); // 유일한 스레드가 막힘
+        feed.onArticleChanges(events(2, 2));
+        Thread.sleep(100);
+        assertThat(fast.received).doesNotContain("article:2");
+
+        feed.disconnectStalled();
+        feed.onArticleChanges(events(3, 5));
+
+        awaitUntil(() -> fast.received.size() >= 5);
+        assertThat(fast.received).containsExactly("article:1", "article:2", "article:3", "article:4", "article:5");
+        assertThat(feed.getSubscriberCount()).isEqualTo(1);
+        assertThat(feed.getDispatcherPoolSize()).isEqualTo(2);
+
+        slow.unblock(); // 막혔던 전송이 끝나면 늘린 스레드를 돌려놓고 연결을 닫음
+        awaitUntil(() -> feed.getDispatcherPoolSize() == 1 && slow.completed);
+        assertThat(slow.received).containsExactly("article:1");
+    }
+
+    /**
+     * 구독자 큐가 넘치면 밀린 이벤트 대신 마지막 이벤트 ID의 resync 하나를 보낸다
+     */
+    @Test
+    void testOverflowSendsResync() throws Exception {
+        feed = feed(1024, 2, 100, 1, 60_000);
+        feed.onStart(0);
+        RecordingEmitter slow = subscribe(null);
+        slow.block();
+
+        feed.onArticleChanges(events(1, 1));
+        assertThat(slow.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        feed.onArticleChanges(events(2, 10));
+        slow.unblock();
+
+        awaitUntil(() -> slow.received.size() >= 2);
+        Thread.sleep(50);
+        assertThat(slow.received).containsExactly("article:1", "resync:10");
+    }
+
+    /**
+     * Last-Event-ID가 링 버퍼 범위 안이면 이후 이벤트를 재전송하고, 범위 밖이거나 형식이 다르면 resync를 보낸다
+     */
+    @Test
+    void testReplayFromLastEventId() {
+        feed = feed(4, 256, 100, 2, 5000);
+        feed.onStart(0);
+        feed.onArticleChanges(events(1, 10)); // 링 버퍼에는 7~10만 남음
+
+        RecordingEmitter resumed = subscribe("8");
+        RecordingEmitter tooOld = subscribe("3");
+        RecordingEmitter invalid = subscribe("abc");
+        RecordingEmitter fresh = subscribe(null);
+        feed.onArticleChanges(events(11, 11));
+
+        awaitUntil(() -> resumed.received.size() >= 3 && tooOld.received.size() >= 2
+                && invalid.received.size() >= 2 && fresh.received.size() >= 1);
+        assertThat(resumed.received).containsExactly("article:9", "article:10", "article:11");
+        assertThat(tooOld.received).containsExactly("resync:10", "article:11");
+        assertThat(invalid.received).containsExactly("resync:10", "article:11");
+        assertThat(fresh.received).containsExactly("article:11");
+    }
+
+    /**
+     * 늦게 커밋된 이벤트를 받으면 연결된 구독자와 지금까지의 ID로 재연결하는 구독자 모두 resync를 받는다
+     */
+    @Test
+    void testLateEventsTriggerResync() {
+        feed = feed(1024, 256, 100, 2, 5000);
+        feed.onStart(0);
+        RecordingEmitter connected = subscribe(null);
+        feed.onArticleChanges(events(1, 5));
+        feed.onLateArticleChanges(events(3, 3));
+        RecordingEmitter reconnected = subscribe("5");
+        feed.onArticleChanges(events(6, 6));
+
+        awaitUntil(() -> connected.received.size() >= 7 && reconnected.received.size() >= 2);
+        assertThat(connected.received).containsExactly(
+                "article:1", "article:2", "article:3", "article:4", "article:5", "resync:5", "article:6");
+        assertThat(reconnected.received).containsExactly("resync:5", "article:6");
+    }
+
+    /**
+     * 동시에 구독해도 최대 구독자 수를 넘지 않는다
+     */
+    @Test
+    void testMaxSubscribersUnderConcurrency() throws Exception {
+        feed = feed(16, 16, 10, 1, 5000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Optional<SseEmitter>>> futures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return feed.subscribe(null);
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Optional<SseEmitter>> future : futures) {
+            if (future.get(10, TimeUnit.SECONDS).isPresent()) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(accepted).isEqualTo(10);
+        assertThat(feed.getSubscriberCount()).isEqualTo(10);
+    }
+
+    private ArticleEventFeed feed(int ringSize, int subscriberBuffer, int maxSubscribers,
+                                  int dispatchThreads, long sendTimeoutMillis) {
+        return new ArticleEventFeed(ringSize, subscriberBuffer, maxSubscribers, dispatchThreads, 60_000,
+                sendTimeoutMillis, 4, timeout -> {
+                    RecordingEmitter emitter = new RecordingEmitter(timeout);
+                    emitters.add(emitter);
+                    return emitter;
+                });
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return (RecordingEmitter) feed.subscribe(lastEventId).orElseThrow();
+    }
+
+    private static List<ArticleOutboxEvent> events(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(id -> new ArticleOutboxEvent(id, id, ArticleEvent.Type.UPDATED, "{\"articleId\":" + id + "}"))
+                .toList();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간이 초과되었습니다.");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    // 보낸 이벤트를 "이름:ID"로 기록하고, block() 후에는 unblock()까지 전송을 막는 SseEmitter
+    private static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern EVENT = Pattern.compile("id:(\\d+)\\nevent:(\\w+)");
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        private RecordingEmitter(Long timeout) {
+            super(timeout);
+        }
+
+        private void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        private void unblock() {
+            CountDownLatch current = gate;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String text = builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining());
+            Matcher matcher = EVENT.matcher(text);
+            if (matcher.find()) {
+                received.add(matcher.group(2) + ":" + matcher.group(1));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tangeedad.myhome.dto.ArticleImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ArticleImportService 테스트 클래스
+ * 행 검증, 실패한 배치의 행 단위 재시도, 연속 ID 블록의 첨부파일 연결, 입력 중단 시 결과 보고를 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 배치마다 직접 커밋
+class ArticleImportServiceTest {
+
+    private static final String FUTURE = "\"startDate\":\"2025-01-01T00:00:00\",\"endDate\":\"2099-01-01T00:00:00\"";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleOutbox articleOutbox;
+    private Long userId;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("INSERT INTO users (username, password, enabled) VALUES ('writer', 'x', true)");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'writer'", Long.class);
+        articleOutbox = Mockito.mock(ArticleOutbox.class);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM article_files");
+        jdbcTemplate.update("DELETE FROM articles");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    /**
+     * 형식 오류, 긴 본문, 뒤바뀐 게시 기간은 행 번호와 함께 거부하고 나머지는 등록한다
+     */
+    @Test
+    void testRejectsInvalidRows() {
+        String body = article("first", "content") + "\n"
+                + "{not json\n"
+                + article("long", "x".repeat(256)) + "\n"
+                + "\n"
+                + "{\"title\":\"dates\",\"content\":\"c\",\"startDate\":\"2025-02-01T00:00:00\",\"endDate\":\"2025-01-01T00:00:00\"}\n"
+                + article("second", "가".repeat(255)) + "\n";
+
+        ArticleImportResult result = service(10).importArticles(input(body), userId);
+
+        assertThat(result.getImportedArticles()).isEqualTo(2);
+        assertThat(result.getRejected()).extracting(ArticleImportResult.Rejected::getLine).containsExactly(2L, 3L, 5L);
+        assertThat(result.getRejected().get(1).getMessage()).contains("255");
+        assertThat(result.isAborted()).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles", Integer.class)).isEqualTo(2);
+    }
+
+    /**
+     * 배치 안의 한 행이 DB에서 실패하면 그 행만 거부하고 같은 배치의 나머지 행은 커밋한다
+     */
+    @Test
+    void testFailedBatchIsRetriedRowByRow() {
+        String badFile = "{\"fileName\":\"" + "f".repeat(300) + "\",\"filePath\":\"/p\"}";
+        String body = article("one", "c") + "\n"
+                + "{\"title\":\"two\",\"content\":\"c\"," + FUTURE + ",\"files\":[" + badFile + "]}\n"
+                + article("three", "c") + "\n"
+                + article("four", "c") + "\n";
+
+        ArticleImportResult result = service(2).importArticles(input(body), userId);
+
+        assertThat(result.getImportedArticles()).isEqualTo(3);
+        assertThat(result.getRejected()).extracting(ArticleImportResult.Rejected::getLine).containsExactly(2L);
+        assertThat(result.getCommittedBatches()).isEqualTo(2); // 1행 단독 재시도 + 3~4행 배치
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM articles ORDER BY id", String.class))
+                .containsExactly("one", "three", "four");
+        verify(articleOutbox, times(2)).appendAll(anyList());
+    }
+
+    /**
+     * 연속 ID 블록 모드에서 첨부파일이 자기 게시글에 연결된다
+     */
+    @Test
+    void testFilesAttachToArticlesInIdBlock() {
+        String body = "{\"title\":\"with file\",\"content\":\"c\"," + FUTURE
+                + ",\"files\":[{\"fileName\":\"a.txt\",\"filePath\":\"/a\"},{\"fileName\":\"b.txt\",\"filePath\":\"/b\"}]}\n"
+                + article("no file", "c") + "\n"
+                + "{\"title\":\"one file\",\"content\":\"c\"," + FUTURE + ",\"files\":[{\"fileName\":\"c.txt\",\"filePath\":\"/c\"}]}\n";
+        ArticleImportService service = service(10);
+        service.setIdBlockMode(true, 1);
+
+        ArticleImportResult result = service.importArticles(input(body), userId);
+
+        assertThat(result.getImportedFiles()).isEqualTo(3);
+        List<Map<String, Object>> files = jdbcTemplate.queryForList(
+                "SELECT a.title, f.file_name FROM article_files f JOIN articles a ON a.id = f.article_id ORDER BY f.file_name");
+        assertThat(files).extracting(row -> row.get("TITLE") + ":" + row.get("FILE_NAME"))
+                .containsExactly("with file:a.txt", "with file:b.txt", "one file:c.txt");
+    }
+
+    /**
+     * 입력을 읽다 실패하면 이미 커밋된 배치 수와 함께 중단 이유를 반환한다
+     */
+    @Test
+    void testReportsCommittedCountWhenInputFails() {
+        // 리더가 미리 읽는 버퍼(8KB)보다 길게 만들어 실패 전에 여러 배치가 커밋되게 함
+        StringBuilder head = new StringBuilder();
+        for (int i = 0; i < 101; i++) {
+            head.append(article("t" + i, "c")).append('\n');
+        }
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        ArticleImportResult result = service(2).importArticles(
+                new SequenceInputStream(input(head.toString()), failing), userId);
+
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getAbortedReason()).contains("connection reset");
+        assertThat(result.getImportedArticles()).isPositive().isLessThan(101);
+        assertThat(result.getImportedArticles()).isEqualTo(result.getCommittedBatches() * 2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles", Long.class))
+                .isEqualTo(result.getImportedArticles());
+    }
+
+    private ArticleImportService service(int batchSize) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new ArticleImportService(jdbcTemplate, transactionManager, objectMapper,
+                Mockito.mock(ActiveArticleIndex.class), articleOutbox, batchSize, 100);
+    }
+
+    private static String article(String title, String content) {
+        return "{\"title\":\"" + title + "\",\"content\":\"" + content + "\"," + FUTURE + "}";
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,401 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticleOutboxEvent;
+import com.tangeedad.myhome.repository.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * ArticleOutboxRelay 테스트 클래스
+ * ID 순서 전달, 빈자리 대기와 건너뛰기, 늦게 커밋된 이벤트의 재확인, 실패한 구독자 재전달, 삭제 범위, 재시작,
+ * 영속 구독자의 위치 저장과 이어 받기, 다른 인스턴스의 이벤트를 활성 게시글 색인에 반영하는 것을 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 이벤트 행을 커밋된 상태로 두고 읽음
+class ArticleOutboxRelayTest {
+
+    private static final long GAP_TIMEOUT_MS = 5000;
+    private static final long GAP_RECHECK_MS = 600_000;
+    private static final String INSTANCE_ID = "instance-a";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private JdbcTemplate relayJdbcTemplate;
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+    @BeforeEach
+    void setup() {
+        // 아웃박스 테이블은 엔티티가 없으므로 readme의 DDL과 같은 컬럼으로 직접 생성
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS article_outbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "article_id BIGINT NOT NULL, event_type VARCHAR(16) NOT NULL, payload VARCHAR(4000) NOT NULL, " +
+                "created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS article_outbox_offsets (subscriber VARCHAR(100) NOT NULL, " +
+                "instance_id VARCHAR(100) NOT NULL DEFAULT '', last_id BIGINT NOT NULL, " +
+                "updated_at TIMESTAMP(3) NOT NULL, PRIMARY KEY (subscriber, instance_id))");
+        // H2에는 @@auto_increment_increment가 없으므로 MariaDB 기본값으로 대체
+        relayJdbcTemplate = Mockito.spy(jdbcTemplate);
+        doReturn(1L).when(relayJdbcTemplate).queryForObject("SELECT @@auto_increment_increment", Long.class);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM article_outbox");
+        jdbcTemplate.update("DELETE FROM article_outbox_offsets");
+    }
+
+    /**
+     * 여러 배치에 걸친 이벤트를 ID 순서대로 한 번씩 전달하고, 시작 이전의 이벤트는 전달하지 않는다
+     */
+    @Test
+    void testRelaysInIdOrderAcrossBatches() {
+        insertEvents(1, 3);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, subscriber);
+        relay.start();
+        assertThat(subscriber.startPosition).isEqualTo(3);
+
+        insertEvents(4, 28);
+        assertThat(relay.relay()).isEqualTo(25);
+        assertThat(relay.relay()).isZero();
+
+        assertThat(subscriber.ids).containsExactlyElementsOf(range(4, 28));
+        assertThat(subscriber.batches).isEqualTo(3); // 10 + 10 + 5
+    }
+
+    /**
+     * 빈자리 뒤의 이벤트는 빈자리가 채워지면 순서대로 전달된다
+     */
+    @Test
+    void testWaitsForGapToBeFilled() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, subscriber);
+        relay.start();
+
+        insertEvents(1, 1);
+        insertEvents(3, 3); // 2번을 받은 트랜잭션이 아직 커밋되지 않음
+        relay.relay();
+        assertThat(subscriber.ids).containsExactly(1L);
+
+        now.addAndGet(GAP_TIMEOUT_MS - 1);
+        relay.relay();
+        assertThat(subscriber.ids).containsExactly(1L);
+
+        insertEvents(2, 2);
+        relay.relay();
+        assertThat(subscriber.ids).containsExactly(1L, 2L, 3L);
+        assertThat(relay.getSkippedIdCount()).isZero();
+    }
+
+    /**
+     * gap-timeout-ms가 지나도 채워지지 않은 빈자리는 넘어가고, 그 뒤에 커밋된 이벤트는 늦은 이벤트로 한 번 전달된다
+     */
+    @Test
+    void testSkipsGapAndDeliversLateCommit() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, subscriber);
+        relay.start();
+
+        insertEvents(1, 1);
+        insertEvents(4, 4); // 2, 3번이 빈자리
+        relay.relay();
+        now.addAndGet(GAP_TIMEOUT_MS);
+        relay.relay();
+        assertThat(subscriber.ids).containsExactly(1L, 4L);
+        assertThat(relay.getSkippedIdCount()).isEqualTo(2);
+
+        insertEvents(3, 3); // 긴 트랜잭션이 뒤늦게 커밋됨
+        now.addAndGet(GAP_RECHECK_MS / 2);
+        relay.relay();
+        relay.relay();
+        assertThat(subscriber.lateIds).containsExactly(3L);
+        assertThat(relay.getSkippedIdCount()).isEqualTo(1); // 2번은 계속 확인
+
+        now.addAndGet(GAP_RECHECK_MS);
+        insertEvents(2, 2); // 재확인 기간이 지난 뒤의 커밋은 포기
+        relay.relay();
+        assertThat(subscriber.lateIds).containsExactly(3L);
+        assertThat(relay.getSkippedIdCount()).isZero();
+    }
+
+    /**
+     * 전달에 실패한 구독자는 다음 주기에 같은 위치부터 다시 받고, 다른 구독자는 중복 없이 계속 받는다
+     */
+    @Test
+    void testRedeliversToFailedSubscriberOnly() {
+        RecordingSubscriber healthy = new RecordingSubscriber();
+        RecordingSubscriber flaky = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, healthy, flaky);
+        relay.start();
+
+        insertEvents(1, 3);
+        flaky.failuresLeft = 1;
+        relay.relay();
+        assertThat(healthy.ids).containsExactly(1L, 2L, 3L);
+        assertThat(flaky.ids).isEmpty();
+
+        insertEvents(4, 4);
+        relay.relay();
+        assertThat(healthy.ids).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(flaky.ids).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    /**
+     * 보관 시간이 지난 이벤트 중 가장 뒤처진 구독자가 받은 것까지만 삭제한다
+     */
+    @Test
+    void testPurgesOnlyBelowLowestPosition() {
+        RecordingSubscriber healthy = new RecordingSubscriber();
+        RecordingSubscriber stuck = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, healthy, stuck);
+        relay.start();
+
+        Timestamp old = new Timestamp(now.get() - TimeUnit.HOURS.toMillis(25));
+        for (long id = 1; id <= 4; id++) {
+            insertEvent(id, old);
+        }
+        insertEvent(5, new Timestamp(now.get()));
+        relay.relay(); // 모두 받음
+        insertEvent(6, old);
+        insertEvent(7, old);
+        stuck.failuresLeft = 1;
+        relay.relay(); // stuck은 5에 머묾
+
+        relay.purge();
+        assertThat(remainingIds()).containsExactly(5L, 6L, 7L);
+
+        relay.relay();
+        relay.purge();
+        assertThat(remainingIds()).containsExactly(5L); // 보관 시간 안의 이벤트는 남김
+    }
+
+    /**
+     * 영속 구독자가 아니면 재시작한 릴레이는 마지막 이벤트 이후부터 전달하고 이미 기록된 이벤트를 다시 보내지 않는다
+     */
+    @Test
+    void testRestartResumesFromHead() {
+        RecordingSubscriber before = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, before);
+        relay.start();
+        insertEvents(1, 3);
+        relay.relay();
+        relay.shutdown();
+
+        insertEvents(4, 5); // 재시작 사이에 커밋된 이벤트
+        RecordingSubscriber after = new RecordingSubscriber();
+        ArticleOutboxRelay restarted = relay(10, after);
+        restarted.start();
+        assertThat(after.startPosition).isEqualTo(5);
+
+        insertEvents(6, 7);
+        restarted.relay();
+        assertThat(after.ids).containsExactly(6L, 7L);
+        restarted.shutdown();
+    }
+
+    /**
+     * 영속 구독자는 재시작 후 저장된 위치부터 내려가 있던 동안의 이벤트를 이어서 받고,
+     * 위치는 인스턴스별로 저장되어 처음 시작하는 인스턴스는 마지막 이벤트 이후부터 받는다
+     */
+    @Test
+    void testDurableSubscriberResumesAfterRestart() {
+        RecordingSubscriber before = new RecordingSubscriber(true);
+        ArticleOutboxRelay relay = relay(10, before);
+        relay.start();
+        insertEvents(1, 3);
+        relay.relay();
+        relay.shutdown();
+        assertThat(storedOffset(INSTANCE_ID)).isEqualTo(3);
+
+        insertEvents(4, 5); // 내려가 있는 동안 커밋된 이벤트
+        RecordingSubscriber after = new RecordingSubscriber(true);
+        ArticleOutboxRelay restarted = relay(10, after);
+        restarted.start();
+        assertThat(after.startPosition).isEqualTo(3);
+        restarted.relay();
+        assertThat(after.ids).containsExactly(4L, 5L);
+        assertThat(storedOffset(INSTANCE_ID)).isEqualTo(5);
+        restarted.shutdown();
+
+        RecordingSubscriber other = new RecordingSubscriber(true);
+        ArticleOutboxRelay otherInstance = new ArticleOutboxRelay(relayJdbcTemplate, List.of(other), true, 10,
+                GAP_TIMEOUT_MS, GAP_RECHECK_MS, 24, "instance-b", now::get);
+        otherInstance.start();
+        assertThat(other.startPosition).isEqualTo(5);
+        assertThat(storedOffset("instance-b")).isEqualTo(5);
+        otherInstance.shutdown();
+    }
+
+    /**
+     * 다른 인스턴스가 저장한 위치보다 뒤의 이벤트는 삭제하지 않고, 보관 시간 동안 갱신되지 않은 위치는 지워 삭제를 막지 않는다
+     */
+    @Test
+    void testPurgeHonorsOffsetsOfOtherInstances() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ArticleOutboxRelay relay = relay(10, subscriber);
+        relay.start();
+
+        Timestamp old = new Timestamp(now.get() - TimeUnit.HOURS.toMillis(25));
+        for (long id = 1; id <= 5; id++) {
+            insertEvent(id, old);
+        }
+        relay.relay();
+        jdbcTemplate.update("INSERT INTO article_outbox_offsets (subscriber, instance_id, last_id, updated_at) " +
+                "VALUES ('active-article-index', 'instance-b', 2, ?)", new Timestamp(now.get()));
+
+        relay.purge();
+        assertThat(remainingIds()).containsExactly(3L, 4L, 5L);
+
+        jdbcTemplate.update("UPDATE article_outbox_offsets SET updated_at = ?", old); // 인스턴스 b가 없어짐
+        relay.purge();
+        assertThat(remainingIds()).isEmpty();
+        assertThat(storedOffset("instance-b")).isNull();
+        relay.shutdown();
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 저장/삭제 이벤트도 릴레이를 거쳐 활성 게시글 색인과 개수, 목록 ETag용 이벤트 ID에 반영된다
+     */
+    @Test
+    void testIndexAppliesForeignEvents() throws Exception {
+        ActiveArticleIndex index = new ActiveArticleIndex(boardRepository, transactionManager, objectMapper,
+                1000, 64, now::get);
+        ArticleOutboxRelay relay = relay(10, index);
+        relay.start();
+        assertThat(index.getAppliedEventId()).isZero();
+
+        LocalDateTime current = LocalDateTime.now();
+        insertForeignEvent(1, new ArticleEvent(ArticleEvent.Type.CREATED, 7L, "다른 인스턴스",
+                current.minusHours(1), current.plusHours(1), current));
+        insertForeignEvent(2, new ArticleEvent(ArticleEvent.Type.CREATED, 8L, "예약 글",
+                current.plusHours(1), current.plusHours(2), current));
+        relay.relay();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(7L);
+        assertThat(index.getActiveCount()).isEqualTo(1);
+
+        insertForeignEvent(3, new ArticleEvent(ArticleEvent.Type.UPDATED, 8L, "예약 글",
+                current.minusHours(1), current.plusHours(2), current));
+        insertForeignEvent(4, new ArticleEvent(ArticleEvent.Type.DELETED, 7L, null, null, null, current));
+        relay.relay();
+        assertThat(index.findActiveIds(0, 10)).containsExactly(8L);
+        assertThat(index.getActiveCount()).isEqualTo(1);
+        assertThat(index.getAppliedEventId()).isEqualTo(4);
+        relay.shutdown();
+    }
+
+    private ArticleOutboxRelay relay(int batchSize, ArticleChangeSubscriber... subscribers) {
+        return new ArticleOutboxRelay(relayJdbcTemplate, List.of(subscribers), true, batchSize,
+                GAP_TIMEOUT_MS, GAP_RECHECK_MS, 24, INSTANCE_ID, now::get);
+    }
+
+    private void insertEvents(long fromId, long toId) {
+        for (long id = fromId; id <= toId; id++) {
+            insertEvent(id, new Timestamp(now.get()));
+        }
+    }
+
+    private void insertEvent(long id, Timestamp createdAt) {
+        jdbcTemplate.update("INSERT INTO article_outbox (id, article_id, event_type, payload, created_at) " +
+                "VALUES (?, ?, 'UPDATED', '{}', ?)", id, id, createdAt);
+    }
+
+    private void insertForeignEvent(long id, ArticleEvent event) throws Exception {
+        jdbcTemplate.update("INSERT INTO article_outbox (id, article_id, event_type, payload, created_at) " +
+                "VALUES (?, ?, ?, ?, ?)", id, event.getArticleId(), event.getType().name(),
+                objectMapper.writeValueAsString(event), new Timestamp(now.get()));
+    }
+
+    private Long storedOffset(String instanceId) {
+        List<Long> offsets = jdbcTemplate.queryForList("SELECT last_id FROM article_outbox_offsets " +
+                "WHERE instance_id = ?", Long.class, instanceId);
+        return offsets.isEmpty() ? null : offsets.get(0);
+    }
+
+    private List<Long> remainingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM article_outbox ORDER BY id", Long.class);
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static final class RecordingSubscriber implements ArticleChangeSubscriber {
+        private final boolean durable;
+        private final List<Long> ids = new ArrayList<>();
+        private final List<Long> lateIds = new ArrayList<>();
+        private long startPosition = -1;
+        private int batches;
+        private int failuresLeft;
+
+        private RecordingSubscriber() {
+            this(false);
+        }
+
+        private RecordingSubscriber(boolean durable) {
+            this.durable = durable;
+        }
+
+        @Override
+        public String getSubscriberName() {
+            return "recording";
+        }
+
+        @Override
+        public boolean isDurable() {
+            return durable;
+        }
+
+        @Override
+        public void onStart(long position) {
+            startPosition = position;
+        }
+
+        @Override
+        public void onArticleChanges(List<ArticleOutboxEvent> events) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("전달 실패");
+            }
+            batches++;
+            events.forEach(event -> ids.add(event.getId()));
+        }
+
+        @Override
+        public void onLateArticleChanges(List<ArticleOutboxEvent> events) {
+            events.forEach(event -> lateIds.add(event.getId()));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ArticleOutbox 테스트 클래스
+ * 이벤트가 변경과 같은 트랜잭션에서 기록되고, 커밋된 경우에만 남아 릴레이를 깨우는지 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋과 롤백을 직접 확인
+class ArticleOutboxTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleOutboxRelay relay;
+    private ArticleOutbox outbox;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        // 아웃박스 테이블은 엔티티가 없으므로 readme의 DDL과 같은 컬럼으로 직접 생성
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS article_outbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "article_id BIGINT NOT NULL, event_type VARCHAR(16) NOT NULL, payload VARCHAR(4000) NOT NULL, " +
+                "created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3))");
+        relay = Mockito.mock(ArticleOutboxRelay.class);
+        outbox = new ArticleOutbox(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), relay);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM article_outbox");
+    }
+
+    /**
+     * 커밋되면 이벤트가 순서대로 남고, 릴레이는 커밋 후에 한 번 깨운다
+     */
+    @Test
+    void testAppendsInOrderAndWakesRelayAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.appendAll(List.of(event(ArticleEvent.Type.CREATED, 10L), event(ArticleEvent.Type.UPDATED, 10L)));
+            outbox.append(event(ArticleEvent.Type.DELETED, 11L));
+            verify(relay, never()).wakeUp(); // 아직 커밋 전
+        });
+
+        verify(relay, times(2)).wakeUp();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, article_id, event_type, payload FROM article_outbox ORDER BY id");
+        assertThat(rows).extracting(row -> row.get("EVENT_TYPE")).containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(rows).extracting(row -> ((Number) row.get("ARTICLE_ID")).longValue()).containsExactly(10L, 10L, 11L);
+        assertThat((String) rows.get(0).get("PAYLOAD")).contains("\"type\":\"CREATED\"", "\"articleId\":10");
+        assertThat(outbox.headId()).isEqualTo(((Number) rows.get(2).get("ID")).longValue());
+    }
+
+    /**
+     * 롤백되면 이벤트도 남지 않고 릴레이를 깨우지 않는다
+     */
+    @Test
+    void testRollbackDiscardsEvents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(event(ArticleEvent.Type.CREATED, 10L));
+            status.setRollbackOnly();
+        });
+
+        verify(relay, never()).wakeUp();
+        assertThat(outbox.headId()).isZero();
+    }
+
+    /**
+     * 트랜잭션 밖에서는 기록하지 않고 예외를 던진다
+     */
+    @Test
+    void testAppendOutsideTransactionFails() {
+        assertThatThrownBy(() -> outbox.append(event(ArticleEvent.Type.CREATED, 10L)))
+                .isInstanceOf(IllegalStateException.class);
+
+        outbox.appendAll(List.of()); // 빈 목록은 트랜잭션과 무관하게 무시
+        assertThat(outbox.headId()).isZero();
+        verify(relay, never()).wakeUp();
+    }
+
+    private static ArticleEvent event(ArticleEvent.Type type, Long articleId) {
+        return new ArticleEvent(type, articleId, type == ArticleEvent.Type.DELETED ? null : "title",
+                null, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,329 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.entity.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * ArticleWriteCoordinator 단위 테스트 클래스
+ * 묶음 커밋, 묶음 안의 실패 격리와 절반 분할, 실패할 요청의 직접 저장, 대기열이 찼을 때와 대기 시간을 넘겼을 때의 직접 저장,
+ * 쓰기 스레드의 오류 처리, 종료 시 남은 요청 저장을 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ArticleWriteCoordinatorTest {
+
+    private static final String WRITER_THREAD = "article-write-coordinator";
+
+    @Mock
+    private BoardService boardService;
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final AtomicLong nextId = new AtomicLong();
+    // 제목 -> 저장한 스레드 이름
+    private final Map<String, String> savedBy = new ConcurrentHashMap<>();
+    // 묶음 트랜잭션 밖에서 저장을 시도한 게시글 제목
+    private final List<String> savedOutsideGroup = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writerEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private ArticleWriteCoordinator coordinator;
+
+    @AfterEach
+    void cleanup() throws InterruptedException {
+        releaseWriter.countDown();
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    /**
+     * 동시에 들어온 요청은 한 트랜잭션으로 커밋되고 호출자마다 자기 게시글을 받는다
+     */
+    @Test
+    void testConcurrentCreatesShareOneCommit() throws Exception {
+        stubSave();
+        coordinator = coordinator(3, 500_000, 16, 5000);
+
+        List<Future<Article>> results = List.of(submit("a"), submit("b"), submit("c"));
+
+        for (int i = 0; i < results.size(); i++) {
+            Article saved = results.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(saved.getTitle()).isEqualTo(List.of("a", "b", "c").get(i));
+            assertThat(saved.getId()).isNotNull();
+        }
+        assertThat(transactionManager.commits.get()).isEqualTo(1);
+        assertThat(savedBy).containsValues(WRITER_THREAD);
+    }
+
+    /**
+     * 묶음 안의 한 건이 실패하면 묶음을 롤백하고 나누어 다시 저장하여, 실패한 호출자만 자기 예외를 받는다
+     */
+    @Test
+    void testFailingItemGetsOwnExceptionWhileOthersCommit() throws Exception {
+        stubSave();
+        coordinator = coordinator(3, 500_000, 16, 5000);
+
+        Future<Article> first = submit("a");
+        Future<Article> bad = submit("bad");
+        Future<Article> last = submit("c");
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(last.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(IllegalArgumentException.class).hasMessage("bad");
+        // 3건 묶음과, 실패한 요청이 뒤쪽 절반에 들었으면 그 2건 묶음 (묶음 안의 순서는 도착 순서)
+        assertThat(transactionManager.rollbacks.get()).isBetween(1, 2);
+    }
+
+    /**
+     * 실패한 요청이 든 절반만 계속 나누므로, 8건 중 1건이 실패해도 나머지는 4건과 2건 묶음으로 커밋되고
+     * 개별 저장은 마지막 2건뿐이다
+     */
+    @Test
+    void testFailedGroupIsSplitInHalves() throws Exception {
+        stubSave();
+        coordinator = coordinator(8, 2_000_000, 16, 5000);
+        ExecutorService many = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Article>> results = new ArrayList<>();
+            for (String title : List.of("a", "b", "c", "bad", "e", "f", "g", "h")) {
+                results.add(many.submit(() -> coordinator.create(article(title))));
+            }
+            for (Future<Article> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).hasMessage("bad");
+                }
+            }
+        } finally {
+            many.shutdownNow();
+        }
+
+        assertThat(savedOutsideGroup).hasSize(2).contains("bad");
+        assertThat(transactionManager.rollbacks.get()).isEqualTo(3); // 8건, 4건, 2건
+        assertThat(transactionManager.commits.get()).isEqualTo(2);   // 4건, 2건
+    }
+
+    /**
+     * 저장 전에 실패를 알 수 있는 요청(내용이 최대 길이 초과)은 묶음에 넣지 않고 호출한 스레드에서 저장한다
+     */
+    @Test
+    void testInvalidArticleBypassesGroup() {
+        when(boardService.saveArticle(any(Article.class))).thenThrow(new IllegalArgumentException("too long"));
+        coordinator = coordinator(8, 500_000, 16, 5000);
+        Article article = article("long");
+        article.setContent("가".repeat(Article.CONTENT_MAX_LENGTH + 1));
+
+        assertThatThrownBy(() -> coordinator.create(article)).hasMessage("too long");
+        assertThat(transactionManager.rollbacks.get()).isZero();
+    }
+
+    /**
+     * 대기열이 가득 차면 호출한 스레드에서 바로 저장한다
+     */
+    @Test
+    void testQueueFullFallsBackToCallerThread() throws Exception {
+        stubSave();
+        coordinator = coordinator(1, 0, 1, 5000);
+
+        Future<Article> blocked = submit("block"); // 쓰기 스레드가 이 요청에서 멈춤
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Article> queued = submit("queued");
+        awaitUntil(() -> coordinator.getQueueSize() == 1);
+
+        Article inline = coordinator.create(article("inline"));
+
+        assertThat(inline.getId()).isNotNull();
+        assertThat(savedBy.get("inline")).isEqualTo(Thread.currentThread().getName());
+        releaseWriter.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(savedBy.get("queued")).isEqualTo(WRITER_THREAD);
+    }
+
+    /**
+     * commit-timeout-ms까지 쓰기 스레드가 가져가지 않은 요청은 호출자가 직접 저장하고,
+     * 이미 저장 중인 요청은 기다리지 않고 예외를 받는다
+     */
+    @Test
+    void testCommitTimeout() throws Exception {
+        stubSave();
+        coordinator = coordinator(1, 0, 16, 200);
+
+        Future<Article> blocked = submit("block");
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Article> queued = submit("queued");
+
+        Article saved = queued.get(5, TimeUnit.SECONDS);
+        assertThat(saved.getId()).isNotNull();
+        assertThat(savedBy.get("queued")).isNotEqualTo(WRITER_THREAD);
+        assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(IllegalStateException.class);
+        assertThat(coordinator.getQueueSize()).isZero();
+    }
+
+    /**
+     * 쓰기 스레드에서 Error가 나도 그 묶음의 호출자에게 전달하고 다음 요청을 계속 처리한다
+     */
+    @Test
+    void testWriterSurvivesError() throws Exception {
+        stubSave();
+        coordinator = coordinator(1, 0, 16, 5000);
+
+        assertThatThrownBy(() -> coordinator.create(article("error")))
+                .isInstanceOf(StackOverflowError.class);
+        assertThat(coordinator.create(article("after")).getId()).isNotNull();
+        assertThat(savedBy.get("after")).isEqualTo(WRITER_THREAD);
+    }
+
+    /**
+     * 종료할 때 쓰기 스레드가 가져가지 못한 요청은 버리지 않고 저장한다
+     */
+    @Test
+    void testShutdownDrainsQueuedRequests() throws Exception {
+        stubSave();
+        coordinator = coordinator(1, 0, 16, 5000);
+
+        Future<Article> blocked = submit("block");
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Article> queued = submit("queued");
+        awaitUntil(() -> coordinator.getQueueSize() == 1);
+
+        Thread shutdown = new Thread(() -> {
+            try {
+                coordinator.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "shutdown");
+        shutdown.start();
+        awaitUntil(() -> shutdown.getState() == Thread.State.TIMED_WAITING); // 쓰기 스레드 종료를 기다리는 중
+        releaseWriter.countDown();
+        shutdown.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(blocked.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(savedBy.get("queued")).isEqualTo("shutdown");
+        assertThat(coordinator.getQueueSize()).isZero();
+    }
+
+    private ArticleWriteCoordinator coordinator(int maxBatch, long maxWaitMicros, int queueCapacity,
+                                                long commitTimeoutMillis) {
+        return new ArticleWriteCoordinator(boardService, transactionManager, true,
+                maxBatch, maxWaitMicros, queueCapacity, commitTimeoutMillis);
+    }
+
+    // 제목으로 동작을 정함: "bad"는 예외, "error"는 Error, "block"은 releaseWriter까지 대기
+    private void stubSave() {
+        when(boardService.saveArticle(any(Article.class))).thenAnswer(invocation -> {
+            Article article = invocation.getArgument(0);
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                savedOutsideGroup.add(article.getTitle());
+            }
+            switch (article.getTitle()) {
+                case "bad" -> throw new IllegalArgumentException("bad");
+                case "error" -> throw new StackOverflowError();
+                case "block" -> {
+                    writerEntered.countDown();
+                    awaitUninterruptibly(releaseWriter); // 종료 시 인터럽트를 받아도 저장은 끝냄
+                }
+                default -> {
+                }
+            }
+            article.setId(nextId.incrementAndGet());
+            savedBy.put(article.getTitle(), Thread.currentThread().getName());
+            return article;
+        });
+    }
+
+    private Future<Article> submit(String title) {
+        return callers.submit(() -> coordinator.create(article(title)));
+    }
+
+    private static Article article(String title) {
+        Article article = new Article();
+        article.setTitle(title);
+        return article;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 기다리다 시간이 초과되었습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    // 커밋과 롤백 횟수만 세는 트랜잭션 관리자
+    private static final class CountingTransactionManager extends AbstractPlatformTransactionManager {
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.ArticleDto;
+import com.tangeedad.myhome.dto.ArticleEvent;
+import com.tangeedad.myhome.dto.ArticlePatchDto;
+import com.tangeedad.myhome.entity.Article;
+import com.tangeedad.myhome.repository.BoardRepository;
+import com.tangeedad.myhome.repository.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BoardService 수정 테스트 클래스
+ * 부분 수정이 바뀐 컬럼만 버전 조건과 함께 UPDATE하는지, 버전 충돌과 재시도, 아무것도 바뀌지 않은 수정,
+ * DB가 갱신하는 수정 시각, 전체 수정 시 조회수 보존을 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tangeedad.myhome.service.BoardServiceTest$SqlCapture"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 직접 커밋하고 재시도함
+class BoardServiceTest {
+
+    private static final int PATCH_MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService otherWriter = Executors.newSingleThreadExecutor();
+    private ArticleOutbox articleOutbox;
+    private BoardService boardService;
+    private Long articleId;
+
+    @BeforeEach
+    void setup() {
+        // readme의 DDL처럼 수정 시각은 DB가 갱신
+        jdbcTemplate.execute("ALTER TABLE articles ALTER COLUMN last_update_date SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE articles ALTER COLUMN last_update_date SET ON UPDATE CURRENT_TIMESTAMP");
+        jdbcTemplate.update("INSERT INTO users (username, password, enabled) VALUES ('writer', 'x', true)");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'writer'", Long.class);
+        jdbcTemplate.update("INSERT INTO articles (user_id, title, content, summary, start_date, end_date, read_count, version) " +
+                        "VALUES (?, 'Original', 'body', 'body', ?, ?, 0, 0)",
+                userId, Timestamp.valueOf(LocalDateTime.now().minusDays(1)), Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+        articleId = jdbcTemplate.queryForObject("SELECT id FROM articles", Long.class);
+
+        articleOutbox = Mockito.mock(ArticleOutbox.class);
+        boardService = new BoardService(boardRepository, userRepository, Mockito.mock(ActiveArticleIndex.class),
+                Mockito.mock(ReadCountBuffer.class), articleOutbox, transactionManager, new ObjectMapper(),
+                100, 30, 1000, 2000, 10000, 1000, PATCH_MAX_ATTEMPTS);
+        SqlCapture.STATEMENTS.clear();
+        SqlCapture.CONFLICTS.set(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        otherWriter.shutdownNow();
+        SqlCapture.conflict = null;
+        jdbcTemplate.update("DELETE FROM articles");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    /**
+     * 바뀐 컬럼과 버전만 UPDATE하고, 이전 버전으로는 같은 행을 다시 수정할 수 없다
+     */
+    @Test
+    void testPatchWritesOnlyDirtyColumnsWithVersionCheck() {
+        ArticleDto patched = boardService.patchArticle(articleId, patch("Renamed", 0L)).orElseThrow();
+
+        List<String> updates = articleUpdates();
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).contains("title=?", "version=?");
+        assertThat(updates.get(0)).doesNotContain("content", "read_count", "start_date", "last_update_date");
+        assertThat(updates.get(0)).endsWith("where id=? and version=?");
+        assertThat(patched.getVersion()).isEqualTo(1L);
+
+        ArgumentCaptor<ArticleEvent> event = ArgumentCaptor.forClass(ArticleEvent.class);
+        verify(articleOutbox).append(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(ArticleEvent.Type.UPDATED);
+
+        int updated = jdbcTemplate.update("UPDATE articles SET title = 'Stale' WHERE id = ? AND version = ?", articleId, 0L);
+        assertThat(updated).isZero();
+    }
+
+    /**
+     * 보낸 버전이 현재 버전과 다르면 수정하지 않고 예외를 던진다
+     */
+    @Test
+    void testPatchWithStaleVersionThrows() {
+        assertThatThrownBy(() -> boardService.patchArticle(articleId, patch("Renamed", 5L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(articleUpdates()).isEmpty();
+        assertThat(title()).isEqualTo("Original");
+        verify(articleOutbox, never()).append(any());
+    }
+
+    /**
+     * 버전을 보낸 요청은 읽은 뒤 다른 수정이 끼어들어도 재시도하지 않는다
+     */
+    @Test
+    void testPatchWithVersionDoesNotRetryConflict() {
+        SqlCapture.CONFLICTS.set(1);
+        SqlCapture.conflict = this::concurrentUpdate;
+
+        assertThatThrownBy(() -> boardService.patchArticle(articleId, patch("Renamed", 0L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(articleUpdates()).hasSize(1);
+        assertThat(title()).isEqualTo("Original");
+    }
+
+    /**
+     * 버전 없이 보낸 요청은 충돌하면 최신 상태를 다시 읽어 적용한다 (다른 수정의 변경은 그대로 남음)
+     */
+    @Test
+    void testPatchWithoutVersionRetriesConflicts() {
+        SqlCapture.CONFLICTS.set(PATCH_MAX_ATTEMPTS - 1);
+        SqlCapture.conflict = this::concurrentUpdate;
+
+        ArticleDto patched = boardService.patchArticle(articleId, patch("Renamed", null)).orElseThrow();
+
+        assertThat(articleUpdates()).hasSize(PATCH_MAX_ATTEMPTS);
+        assertThat(patched.getTitle()).isEqualTo("Renamed");
+        assertThat(patched.getContent()).isEqualTo("concurrent");
+        assertThat(patched.getVersion()).isEqualTo(PATCH_MAX_ATTEMPTS);
+        assertThat(title()).isEqualTo("Renamed");
+    }
+
+    /**
+     * 버전 없이 보낸 요청도 patch.max-attempts번 모두 충돌하면 예외를 던진다
+     */
+    @Test
+    void testPatchWithoutVersionGivesUpAfterMaxAttempts() {
+        SqlCapture.CONFLICTS.set(PATCH_MAX_ATTEMPTS);
+        SqlCapture.conflict = this::concurrentUpdate;
+
+        assertThatThrownBy(() -> boardService.patchArticle(articleId, patch("Renamed", null)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(articleUpdates()).hasSize(PATCH_MAX_ATTEMPTS);
+        assertThat(title()).isEqualTo("Original");
+        verify(articleOutbox, never()).append(any());
+    }
+
+    /**
+     * 값이 바뀌지 않는 수정은 UPDATE도 이벤트도 만들지 않는다
+     */
+    @Test
+    void testNoOpPatchWritesNothing() {
+        ArticleDto patched = boardService.patchArticle(articleId, patch("Original", null)).orElseThrow();
+
+        assertThat(articleUpdates()).isEmpty();
+        assertThat(patched.getVersion()).isZero();
+        verify(articleOutbox, never()).append(any());
+    }
+
+    /**
+     * 응답의 수정 시각은 DB가 갱신한 값이다
+     */
+    @Test
+    void testPatchReturnsDatabaseLastUpdateDate() {
+        LocalDateTime old = LocalDateTime.now().minusDays(3).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("UPDATE articles SET last_update_date = ? WHERE id = ?", Timestamp.valueOf(old), articleId);
+
+        ArticleDto patched = boardService.patchArticle(articleId, patch("Renamed", null)).orElseThrow();
+
+        LocalDateTime stored = jdbcTemplate.queryForObject(
+                "SELECT last_update_date FROM articles WHERE id = ?", LocalDateTime.class, articleId);
+        assertThat(stored).isAfter(old);
+        assertThat(patched.getLastUpdateDate()).isEqualTo(stored);
+    }
+
+    /**
+     * 전체 수정(PUT)은 그사이 반영된 조회수를 덮어쓰지 않고, 다른 수정이 먼저 있었으면 예외를 던진다
+     */
+    @Test
+    void testSaveKeepsReadCountAndChecksVersion() {
+        Article loaded = boardRepository.findById(articleId).orElseThrow(); // 분리된 상태로 수정
+        jdbcTemplate.update("UPDATE articles SET read_count = 10 WHERE id = ?", articleId); // 조회수 일괄 반영
+        loaded.setTitle("Put title");
+
+        Article saved = boardService.saveArticle(loaded);
+
+        assertThat(saved.getVersion()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT read_count FROM articles WHERE id = ?", Long.class, articleId))
+                .isEqualTo(10L);
+        assertThat(articleUpdates()).allSatisfy(sql -> assertThat(sql).doesNotContain("read_count"));
+
+        loaded.setVersion(0L); // 다른 요청보다 먼저 읽은 사본
+        loaded.setTitle("Stale put");
+        assertThatThrownBy(() -> boardService.saveArticle(loaded))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(title()).isEqualTo("Put title");
+    }
+
+    // 다른 연결에서 같은 게시글을 먼저 수정하고 커밋
+    private void concurrentUpdate() {
+        try {
+            otherWriter.submit(() -> jdbcTemplate.update(
+                    "UPDATE articles SET content = 'concurrent', version = version + 1 WHERE id = ?", articleId)).get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ArticlePatchDto patch(String title, Long version) {
+        ArticlePatchDto patch = new ArticlePatchDto();
+        patch.setTitle(title);
+        patch.setVersion(version);
+        return patch;
+    }
+
+    private String title() {
+        return jdbcTemplate.queryForObject("SELECT title FROM articles WHERE id = ?", String.class, articleId);
+    }
+
+    private static List<String> articleUpdates() {
+        return SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("update articles"))
+                .toList();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하고, 지정한 횟수만큼 게시글 UPDATE 직전에 다른 수정을 끼워 넣는 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        static final AtomicInteger CONFLICTS = new AtomicInteger();
+        static volatile Runnable conflict;
+
+        @Override
+        public String inspect(String sql) {
+            String normalized = sql.replaceAll("\\s+", " ").trim().toLowerCase();
+            STATEMENTS.add(normalized);
+            Runnable action = conflict;
+            if (action != null && normalized.startsWith("update articles") && CONFLICTS.getAndDecrement() > 0) {
+                action.run();
+            }
+            return sql;
+        }
+    }
+}
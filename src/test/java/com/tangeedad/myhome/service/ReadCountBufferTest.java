@@ -0,0 +1,155 @@
+package com.tangeedad.myhome.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * ReadCountBuffer 단위 테스트 클래스
+ * 증가분 합산, 반영 실패 시 되돌리기, 종료 시 반영, 동시 증가 중 반영에서 유실이 없는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReadCountBuffer readCountBuffer;
+
+    @BeforeEach
+    void setup() {
+        readCountBuffer = new ReadCountBuffer(jdbcTemplate);
+    }
+
+    /**
+     * 게시글마다 증가분을 합산해 한 번의 배치 UPDATE로 반영한다
+     */
+    @Test
+    void testIncrementsAreMergedPerArticle() {
+        readCountBuffer.increment(1L);
+        readCountBuffer.increment(1L);
+        readCountBuffer.increment(2L);
+        readCountBuffer.increment(null);
+
+        assertThat(readCountBuffer.flush()).isEqualTo(2);
+
+        assertThat(deltas(captureBatch())).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        assertThat(readCountBuffer.flush()).isZero(); // 반영한 증가분은 다시 보내지 않음
+    }
+
+    @Test
+    void testEmptyFlushSkipsDatabase() {
+        assertThat(readCountBuffer.flush()).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * 반영에 실패한 증가분은 되돌려 두었다가 그 사이 쌓인 증가분과 합쳐 다음 주기에 반영한다
+     */
+    @Test
+    void testFailedFlushIsMergedBack() {
+        readCountBuffer.increment(1L);
+        readCountBuffer.increment(1L);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doReturn(new int[]{1})
+                .when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        assertThat(readCountBuffer.flush()).isZero();
+        readCountBuffer.increment(1L);
+        assertThat(readCountBuffer.flush()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batches.capture());
+        assertThat(deltas(batches.getAllValues().get(1))).containsExactlyEntriesOf(Map.of(1L, 3L));
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분을 반영한다
+     */
+    @Test
+    void testFlushOnShutdown() {
+        readCountBuffer.increment(7L);
+
+        readCountBuffer.flushOnShutdown();
+
+        assertThat(deltas(captureBatch())).containsExactlyEntriesOf(Map.of(7L, 1L));
+    }
+
+    /**
+     * 여러 스레드가 증가시키는 도중 반영해도 증가분이 유실되거나 중복되지 않는다
+     */
+    @Test
+    void testConcurrentIncrementsAreNotLost() throws Exception {
+        Map<Long, Long> flushed = new HashMap<>();
+        doAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            synchronized (flushed) {
+                deltas(batch).forEach((id, delta) -> flushed.merge(id, delta, Long::sum));
+            }
+            return new int[batch.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    readCountBuffer.increment((long) (i % 5));
+                }
+            }));
+        }
+        boolean done = false;
+        while (!done) {
+            readCountBuffer.flush();
+            done = futures.stream().allMatch(Future::isDone);
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        readCountBuffer.flush();
+
+        assertThat(flushed.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(threads * 10_000L);
+        assertThat(flushed).containsOnlyKeys(0L, 1L, 2L, 3L, 4L);
+    }
+
+    private List<Object[]> captureBatch() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        return batch.getValue();
+    }
+
+    // 배치 파라미터 [증가분, 게시글 ID] -> 게시글 ID별 증가분
+    private static Map<Long, Long> deltas(List<Object[]> batch) {
+        Map<Long, Long> deltas = new HashMap<>();
+        batch.forEach(row -> deltas.put((Long) row[1], (Long) row[0]));
+        return deltas;
+    }
+}
@@ -0,0 +1,76 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.entity.Role;
+import com.tangeedad.myhome.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * RoleRegistry 단위 테스트 클래스
+ * 조회 결과가 호출마다 새 객체이고, 수정해도 레지스트리에 영향을 주지 않는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private RoleRegistry roleRegistry;
+
+    @BeforeEach
+    void setup() {
+        when(roleRepository.findAll()).thenReturn(List.of(
+                new Role(1L, "ROLE_USER", new ArrayList<>()),
+                new Role(2L, "ROLE_ADMIN", new ArrayList<>())));
+        roleRegistry = new RoleRegistry(roleRepository);
+        roleRegistry.reload();
+    }
+
+    @Test
+    void testLookups() {
+        assertThat(roleRegistry.findByName("ROLE_ADMIN").getId()).isEqualTo(2L);
+        assertThat(roleRegistry.findById(1L).getName()).isEqualTo("ROLE_USER");
+        assertThat(roleRegistry.findIdByName("ROLE_USER")).isEqualTo(1L);
+        assertThat(roleRegistry.findByName("ROLE_NONE")).isNull();
+        assertThat(roleRegistry.findIdByName("ROLE_NONE")).isNull();
+        assertThat(roleRegistry.findAll()).extracting(Role::getName)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    /**
+     * 반환된 역할을 수정해도 다음 조회 결과는 그대로다
+     */
+    @Test
+    void testReturnedRolesAreIndependentCopies() {
+        Role first = roleRegistry.findByName("ROLE_USER");
+        Role second = roleRegistry.findByName("ROLE_USER");
+        assertThat(first).isNotSameAs(second);
+
+        first.setName("ROLE_HACKED");
+        first.setId(99L);
+        first.getUsers().add(null);
+
+        Role again = roleRegistry.findById(1L);
+        assertThat(again.getName()).isEqualTo("ROLE_USER");
+        assertThat(again.getUsers()).isEmpty();
+        assertThat(roleRegistry.findByName("ROLE_HACKED")).isNull();
+    }
+
+    @Test
+    void testFindAllIsUnmodifiable() {
+        List<Role> roles = roleRegistry.findAll();
+        assertThatThrownBy(() -> roles.add(new Role())).isInstanceOf(UnsupportedOperationException.class);
+        roles.get(0).setName("changed");
+        assertThat(roleRegistry.findAll()).extracting(Role::getName).doesNotContain("changed");
+    }
+}
@@ -0,0 +1,210 @@
+package com.tangeedad.myhome.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tangeedad.myhome.dto.UserImportResult;
+import com.tangeedad.myhome.dto.UserImportResult.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserBulkImportService 테스트 클래스
+ * CSV 따옴표 필드, 잘못된 enabled 값의 행 단위 거부, 닫히지 않은 따옴표와 긴 레코드의 거부, 중복 처리,
+ * 실제 INSERT 결과를 H2로 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 청크마다 직접 커밋
+class UserBulkImportServiceTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private UserBulkImportService importService;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        Long roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'ROLE_USER'", Long.class);
+        jdbcTemplate.update("INSERT INTO users (username, password, enabled) VALUES ('existing', 'x', true)");
+
+        RoleRegistry roleRegistry = Mockito.mock(RoleRegistry.class);
+        when(roleRegistry.findIdByName("ROLE_USER")).thenReturn(roleId);
+        importService = new UserBulkImportService(namedJdbcTemplate, transactionManager, passwordEncoder,
+                roleRegistry, Mockito.mock(UsernameBloomFilter.class), Mockito.mock(UsernameTrigramIndex.class),
+                new ObjectMapper(), 2);
+    }
+
+    @AfterEach
+    void cleanup() {
+        importService.shutdown();
+        jdbcTemplate.update("DELETE FROM user_roles");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM roles");
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 든 따옴표 필드를 그대로 비밀번호로 저장한다
+     */
+    @Test
+    void testCsvQuotedFields() throws IOException {
+        String csv = "username,password,enabled\n"
+                + "alice,\"pa,ss\",true\n"
+                + "bob,\"say \"\"hi\"\"\",0\n"
+                + "carol,\"line1\nline2\"\n";
+
+        List<UserImportResult> results = importCsv(csv);
+
+        assertThat(results).extracting(UserImportResult::getStatus).containsOnly(Status.CREATED);
+        assertThat(results).extracting(UserImportResult::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(passwordEncoder.matches("pa,ss", passwordOf("alice"))).isTrue();
+        assertThat(passwordEncoder.matches("say \"hi\"", passwordOf("bob"))).isTrue();
+        assertThat(passwordEncoder.matches("line1\nline2", passwordOf("carol"))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT enabled FROM users WHERE username = 'bob'", Boolean.class))
+                .isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_roles", Integer.class)).isEqualTo(3);
+    }
+
+    /**
+     * 잘못된 enabled 값과 해석할 수 없는 행은 그 행만 INVALID로 거부한다
+     */
+    @Test
+    void testMalformedRowsAreRejectedIndividually() throws IOException {
+        String csv = """
+                dave,secret,yes
+                erin,secret,FALSE
+                frank,"secret"x
+                grace,"unterminated
+                """;
+
+        List<UserImportResult> results = importCsv(csv);
+
+        assertThat(results).extracting(UserImportResult::getStatus)
+                .containsExactly(Status.INVALID, Status.CREATED, Status.INVALID, Status.INVALID);
+        assertThat(results.get(0).getMessage()).contains("enabled");
+        assertThat(jdbcTemplate.queryForList("SELECT username FROM users ORDER BY username", String.class))
+                .containsExactly("erin", "existing");
+    }
+
+    /**
+     * 필드 중간의 따옴표는 일반 문자이고, 닫히지 않은 따옴표 필드는 그 줄만 거부하여 뒤의 정상 행을 삼키지 않는다
+     */
+    @Test
+    void testStrayQuoteDoesNotSwallowFollowingRows() throws IOException {
+        String csv = "leo,ab\"c\n"
+                + "mia,pw\n"
+                + "nick,\"open\n"
+                + "olga,pw\n"
+                + "paul,pw\n";
+
+        List<UserImportResult> results = importCsv(csv);
+
+        assertThat(results).extracting(UserImportResult::getStatus)
+                .containsExactly(Status.CREATED, Status.CREATED, Status.INVALID, Status.CREATED, Status.CREATED);
+        assertThat(results).extracting(UserImportResult::getLine).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(passwordEncoder.matches("ab\"c", passwordOf("leo"))).isTrue();
+    }
+
+    /**
+     * 줄 수나 길이 제한을 넘는 레코드는 INVALID로 처리하고 이어지는 행은 계속 처리한다
+     */
+    @Test
+    void testOverlongRecordIsRejected() throws IOException {
+        String csv = "quinn,\"" + "x\n".repeat(30) + "\"\n"
+                + "rose," + "y".repeat(5000) + "\n"
+                + "sam,pw\n";
+
+        List<UserImportResult> results = importCsv(csv);
+
+        assertThat(results.get(0).getStatus()).isEqualTo(Status.INVALID);
+        assertThat(results).filteredOn(result -> result.getStatus() == Status.CREATED)
+                .extracting(UserImportResult::getUsername).containsExactly("sam");
+        assertThat(results).filteredOn(result -> "rose".equals(result.getUsername())).isEmpty();
+        assertThat(results.get(results.size() - 1).getLine()).isEqualTo(33L);
+    }
+
+    @Test
+    void testEndsInsideQuotes() {
+        assertThat(UserBulkImportService.endsInsideQuotes("a,\"b", false)).isTrue();
+        assertThat(UserBulkImportService.endsInsideQuotes("a,b\"c", false)).isFalse();
+        assertThat(UserBulkImportService.endsInsideQuotes("a,\"b\"\"", false)).isTrue(); // ""는 이스케이프
+        assertThat(UserBulkImportService.endsInsideQuotes("b\",c", true)).isFalse();
+    }
+
+    /**
+     * 같은 청크 안의 중복과 이미 등록된 사용자 이름을 DUPLICATE로 처리한다 (청크 크기 2)
+     */
+    @Test
+    void testDuplicates() throws IOException {
+        List<UserImportResult> results = importCsv("henry,pw\nhenry,pw\nexisting,pw\n");
+
+        assertThat(results).extracting(UserImportResult::getStatus)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.DUPLICATE);
+    }
+
+    @Test
+    void testNdjsonEnabledValues() throws IOException {
+        String ndjson = """
+                {"username":"ivan","password":"pw","enabled":false}
+                {"username":"judy","password":"pw","enabled":"maybe"}
+                {"username":"kim","password":"pw"}
+                """;
+        List<UserImportResult> results = new ArrayList<>();
+        importService.importUsers(input(ndjson), true, results::addAll);
+
+        assertThat(results).extracting(UserImportResult::getStatus)
+                .containsExactly(Status.CREATED, Status.INVALID, Status.CREATED);
+        assertThat(jdbcTemplate.queryForObject("SELECT enabled FROM users WHERE username = 'kim'", Boolean.class))
+                .isTrue();
+    }
+
+    @Test
+    void testSplitCsv() {
+        assertThat(UserBulkImportService.splitCsv("a,,\"b,c\"")).containsExactly("a", "", "b,c");
+        assertThat(UserBulkImportService.splitCsv("\"\"")).containsExactly("");
+        assertThatThrownBy(() -> UserBulkImportService.splitCsv("\"a\"b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<UserImportResult> importCsv(String csv) throws IOException {
+        List<UserImportResult> results = new ArrayList<>();
+        importService.importUsers(input(csv), false, results::addAll);
+        return results;
+    }
+
+    private String passwordOf(String username) {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = ?", String.class, username);
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.tangeedad.myhome.service;
+
+import com.tangeedad.myhome.dto.UserDto;
+import com.tangeedad.myhome.entity.Role;
+import com.tangeedad.myhome.entity.User;
+import com.tangeedad.myhome.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserService.streamAllUsers 테스트 클래스
+ * 배치 크기보다 많은 사용자를 키셋 페이지로 빠짐없이 순서대로 전달하는지, 페이지마다 쿼리 수가 일정한지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserServiceStreamTest {
+
+    private static final int USER_COUNT = 1234;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserService userService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        Role userRole = new Role();
+        userRole.setName("ROLE_USER");
+        entityManager.persist(userRole);
+        Role adminRole = new Role();
+        adminRole.setName("ROLE_ADMIN");
+        entityManager.persist(adminRole);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.getRoles().add(userRole);
+            if (i % 100 == 0) {
+                user.getRoles().add(adminRole);
+            }
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        userService = new UserService(userRepository, null, null, null, null, null, transactionManager);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * 1234명을 500명씩 - 500, 500, 234명 세 배치, 배치마다 사용자 1회 + 역할 1회
+     */
+    @Test
+    void testStreamsAllUsersInKeysetBatches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<UserDto> received = new ArrayList<>();
+        userService.streamAllUsers(BATCH_SIZE, batch -> {
+            batchSizes.add(batch.size());
+            received.addAll(batch);
+        });
+
+        assertThat(batchSizes).containsExactly(500, 500, 234);
+        assertThat(received).extracting(UserDto::getId).isSorted().doesNotHaveDuplicates().hasSize(USER_COUNT);
+        assertThat(received).allSatisfy(user -> assertThat(user.getRoles()).contains("ROLE_USER"));
+        assertThat(received.stream().filter(user -> user.getRoles().contains("ROLE_ADMIN"))).hasSize(13);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    /**
+     * 사용자 수가 배치 크기의 배수이면 마지막 빈 페이지를 한 번 더 확인하고 끝낸다
+     */
+    @Test
+    void testExactMultipleOfBatchSize() {
+        List<Integer> batchSizes = new ArrayList<>();
+        userService.streamAllUsers(USER_COUNT / 2, batch -> batchSizes.add(batch.size()));
+
+        assertThat(batchSizes).containsExactly(USER_COUNT / 2, USER_COUNT / 2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.tangeedad.myhome.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UsernameTrigramIndex 단위 테스트 클래스
+ * 부분 문자열/접두어 검색, 이름 변경과 삭제 반영, 키셋 페이지, 동시 추가와 이름 변경을 DB 없이 확인합니다.
+ */
+class UsernameTrigramIndexTest {
+
+    private UsernameTrigramIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new UsernameTrigramIndex(null, null);
+        index.add(1L, "Alice");
+        index.add(2L, "malice");
+        index.add(3L, "bob");
+        index.add(4L, "Alicia");
+        index.add(5L, "Zoë");
+    }
+
+    @Test
+    void testFindContaining() {
+        assertThat(index.findIdsContaining("lic", 0, 1000)).containsExactly(1L, 2L, 4L);
+        assertThat(index.findIdsContaining("ALICE", 0, 1000)).containsExactly(1L, 2L);
+        assertThat(index.findIdsContaining("zoe", 0, 1000)).containsExactly(5L); // 결합 문자 제거 후 비교
+        assertThat(index.findIdsContaining("xyz", 0, 1000)).isEmpty();
+    }
+
+    /**
+     * 트라이그램이 모두 있어도 순서가 다르면 결과에서 제외
+     */
+    @Test
+    void testCandidatesAreVerified() {
+        index.add(6L, "abcxbcd");
+        assertThat(index.findIdsContaining("abcd", 0, 1000)).isEmpty();
+    }
+
+    @Test
+    void testFindStartingWith() {
+        assertThat(index.findIdsStartingWith("ali", 0, 1000)).containsExactly(1L, 4L);
+        assertThat(index.findIdsStartingWith("al", 0, 1000)).containsExactly(1L, 4L); // 트라이그램 없는 짧은 검색어
+        assertThat(index.findIdsStartingWith("b", 0, 1000)).containsExactly(3L);
+    }
+
+    @Test
+    void testRenameAndRemove() {
+        index.add(1L, "carol");
+        assertThat(index.findIdsContaining("alice", 0, 1000)).containsExactly(2L);
+        assertThat(index.findIdsContaining("caro", 0, 1000)).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(index.findIdsContaining("alic", 0, 1000)).containsExactly(4L);
+        index.remove(99L);
+    }
+
+    /**
+     * 결과는 ID 순서의 키셋 페이지로 잘리며, 마지막 ID 다음부터 이어서 조회하면 빠짐없이 모두 반환
+     */
+    @Test
+    void testPaging() {
+        UsernameTrigramIndex paged = new UsernameTrigramIndex(null, null);
+        for (long id = 1; id <= 10; id++) {
+            paged.add(id, "member" + id);
+        }
+        assertThat(paged.findIdsContaining("member", 0, 3)).containsExactly(1L, 2L, 3L);
+        assertThat(paged.findIdsContaining("member", 3, 3)).containsExactly(4L, 5L, 6L);
+        assertThat(paged.findIdsContaining("member", 9, 3)).containsExactly(10L);
+        assertThat(paged.findIdsContaining("me", 7, 3)).containsExactly(8L, 9L, 10L);
+        assertThat(paged.findIdsStartingWith("member1", 1, 3)).containsExactly(10L);
+    }
+
+    /**
+     * 같은 트라이그램을 가진 사용자를 여러 스레드가 동시에 추가해도 빠지지 않는다
+     */
+    @Test
+    void testConcurrentAdds() throws InterruptedException {
+        UsernameTrigramIndex concurrent = new UsernameTrigramIndex(null, null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            long base = t * 1000L;
+            executor.execute(() -> {
+                for (long i = 1; i <= 1000; i++) {
+                    concurrent.add(base + i, "shared" + (base + i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= 8000; id++) {
+            expected.add(id);
+        }
+        assertThat(concurrent.findIdsContaining("shared", 0, 10_000)).isEqualTo(expected);
+    }
+
+    /**
+     * 같은 사용자의 이름을 여러 스레드가 동시에 바꿔도 색인에는 마지막 이름의 트라이그램만 남는다
+     */
+    @Test
+    void testConcurrentRenamesOfSameUser() throws InterruptedException {
+        UsernameTrigramIndex concurrent = new UsernameTrigramIndex(null, null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            String name = "renamed" + (char) ('a' + t) + "user";
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    concurrent.add(1L, name);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        int matches = 0;
+        for (int t = 0; t < 8; t++) {
+            matches += concurrent.findIdsContaining("renamed" + (char) ('a' + t) + "user", 0, 10).size();
+        }
+        assertThat(matches).isEqualTo(1);
+        concurrent.remove(1L);
+        assertThat(concurrent.trigramCount()).isZero(); // 이전 이름의 트라이그램이 남지 않음
+    }
+}
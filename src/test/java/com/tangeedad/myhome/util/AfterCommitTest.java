@@ -0,0 +1,65 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AfterCommit 단위 테스트 클래스
+ * 트랜잭션 동기화가 없으면 바로, 있으면 커밋된 경우에만 실행되는지 확인합니다.
+ */
+class AfterCommitTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서는 바로 실행한다
+     */
+    @Test
+    void testRunsImmediatelyWithoutTransaction() {
+        AfterCommit.run(runs::incrementAndGet);
+
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋된 뒤에 한 번 실행한다
+     */
+    @Test
+    void testRunsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(runs::incrementAndGet);
+        assertThat(runs.get()).isZero();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    /**
+     * 롤백되면 실행하지 않는다
+     */
+    @Test
+    void testSkipsOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(runs::incrementAndGet);
+
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(runs.get()).isZero();
+    }
+}
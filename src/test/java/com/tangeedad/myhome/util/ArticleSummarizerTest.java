@@ -0,0 +1,74 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ArticleSummarizer 단위 테스트 클래스
+ * 태그 제거, 엔티티 복원, 공백 정리, 코드 포인트 기준 자르기와 말줄임표를 확인합니다.
+ */
+class ArticleSummarizerTest {
+
+    @Test
+    void testNullContent() {
+        assertThat(ArticleSummarizer.summarize(null, 10)).isNull();
+    }
+
+    /**
+     * 태그는 공백으로 바뀌어 앞뒤 단어가 붙지 않고, 연속 공백은 하나로 합쳐진다
+     */
+    @Test
+    void testStripsTagsAndCollapsesWhitespace() {
+        String content = "<p>첫 줄</p><p>둘째\n\n줄</p>  <br/><b>굵게</b>";
+
+        assertThat(ArticleSummarizer.summarize(content, 100)).isEqualTo("첫 줄 둘째 줄 굵게");
+    }
+
+    /**
+     * &amp;는 마지막에 복원되어 이중 인코딩된 엔티티가 한 번만 풀린다
+     */
+    @Test
+    void testDecodesEntities() {
+        String content = "a&nbsp;&lt;b&gt; &quot;c&quot; &#39;d&#39; &amp;lt;";
+
+        assertThat(ArticleSummarizer.summarize(content, 100)).isEqualTo("a <b> \"c\" 'd' &lt;");
+    }
+
+    @Test
+    void testKeepsTextAtExactLength() {
+        assertThat(ArticleSummarizer.summarize("12345", 5)).isEqualTo("12345");
+    }
+
+    /**
+     * 최대 길이를 넘으면 말줄임표를 포함해 최대 길이가 되도록 자른다
+     */
+    @Test
+    void testTruncatesWithEllipsis() {
+        String summary = ArticleSummarizer.summarize("123456", 5);
+
+        assertThat(summary).isEqualTo("1234…");
+        assertThat(summary.codePointCount(0, summary.length())).isEqualTo(5);
+    }
+
+    /**
+     * 잘린 끝의 공백은 말줄임표 앞에서 제거된다
+     */
+    @Test
+    void testTrimsBeforeEllipsis() {
+        assertThat(ArticleSummarizer.summarize("abc def ghi", 5)).isEqualTo("abc…");
+    }
+
+    /**
+     * 보조 평면 문자(이모지)는 서로게이트 쌍 중간에서 잘리지 않는다
+     */
+    @Test
+    void testTruncatesByCodePoint() {
+        String content = "😀😀😀😀😀😀";
+
+        String summary = ArticleSummarizer.summarize(content, 4);
+
+        assertThat(summary).isEqualTo("😀😀😀…");
+        assertThat(summary.codePointCount(0, summary.length())).isEqualTo(4);
+    }
+}
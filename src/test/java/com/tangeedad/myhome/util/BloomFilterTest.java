@@ -0,0 +1,81 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BloomFilter 단위 테스트 클래스
+ * 추가한 값에 대한 거짓 음성이 없는지, 오탐률이 목표 근처인지, 동시 추가가 안전한지 확인합니다.
+ */
+class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    /**
+     * 예상 원소 수만큼 넣었을 때 오탐률이 목표의 두 배를 넘지 않는다
+     */
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void testSizing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        // m = -n ln p / (ln 2)^2 ≈ 9586 비트를 64비트 단위로 올림, k = m/n ln 2 ≈ 7
+        assertThat(filter.getBitCount()).isEqualTo(9600);
+        assertThat(filter.getHashCount()).isEqualTo(7);
+        assertThat(BloomFilter.create(1_000, 0.01).mightContain("anything")).isFalse();
+        assertThatThrownBy(() -> BloomFilter.create(1_000, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 여러 스레드가 같은 워드의 비트를 동시에 세워도 빠지는 값이 없다
+     */
+    @Test
+    void testConcurrentPutsAreNotLost() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(8_000, 0.01); // 포화되지 않을 만큼만 크게 잡아 빠진 비트가 드러나도록 함
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    filter.put(thread + ":" + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(filter.mightContain(t + ":" + i)).isTrue();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HashedTimerWheel 단위 테스트 클래스
+ * 틱 경계에서 꺼내지는 시점, 한 바퀴 이상 먼 항목, 취소를 확인합니다.
+ */
+class HashedTimerWheelTest {
+
+    @Test
+    void testFiresOnTickAfterDeadline() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        List<String> fired = new ArrayList<>();
+
+        assertThat(wheel.advance(200, fired::add)).isZero();
+        assertThat(wheel.advance(299, fired::add)).isZero();
+        assertThat(wheel.advance(300, fired::add)).isEqualTo(1);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    /**
+     * 이미 지난 시각은 다음 틱에 꺼내진다
+     */
+    @Test
+    void testPastDeadlineFiresOnNextTick() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 8, 1000);
+        wheel.schedule("late", 0);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(1100, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    /**
+     * 한 바퀴보다 먼 항목은 같은 슬롯을 지나도 해당 틱이 될 때까지 남아 있다
+     */
+    @Test
+    void testKeepsEntriesBeyondOneRotation() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 4, 0);
+        wheel.schedule("far", 1000); // 틱 10, 슬롯 2
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(600, fired::add); // 틱 2, 6 슬롯을 지남
+        assertThat(fired).isEmpty();
+
+        wheel.advance(1000, fired::add);
+        assertThat(fired).containsExactly("far");
+    }
+
+    @Test
+    void testCancel() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 8, 0);
+        HashedTimerWheel.Timeout<String> first = wheel.schedule("a", 500);
+        HashedTimerWheel.Timeout<String> second = wheel.schedule("a", 500); // 같은 항목·틱의 다른 타이머
+        List<String> fired = new ArrayList<>();
+
+        assertThat(wheel.cancel(first)).isTrue();
+        assertThat(wheel.cancel(first)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        wheel.advance(500, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.cancel(second)).isFalse(); // 이미 꺼내진 타이머
+        assertThat(wheel.cancel(null)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> new HashedTimerWheel<>(0, 8, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HashedTimerWheel<>(100, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
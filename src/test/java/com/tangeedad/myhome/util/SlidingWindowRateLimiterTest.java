@@ -0,0 +1,110 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SlidingWindowRateLimiter 단위 테스트 클래스
+ * 윈도우 경계의 가중 합산, 키별 독립성, LRU 제거, 동시 요청 시 한도를 확인합니다.
+ */
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 1000;
+
+    /**
+     * 윈도우 안에서는 한도까지만 허용하고 거부 수를 센다
+     */
+    @Test
+    void testRejectsOverLimitWithinWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 4, 100);
+
+        assertThat(limiter.tryAcquire("a", 10_000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10_100)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10_200)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10_300)).isFalse();
+        assertThat(limiter.tryAcquire("b", 10_300)).isTrue(); // 다른 키는 독립
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    /**
+     * 다음 윈도우에서는 직전 윈도우 카운트를 경과 비율만큼 줄여 반영한다
+     */
+    @Test
+    void testPreviousWindowIsWeightedByElapsedTime() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW, 1, 100);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("a", 10_000 + i)).isTrue();
+        }
+
+        // 다음 윈도우 시작 직후: 직전 4건이 거의 그대로 남아 있음
+        assertThat(limiter.tryAcquire("a", 11_000)).isFalse();
+        // 절반 경과: 4 * 0.5 = 2건으로 계산되어 두 건 더 허용
+        assertThat(limiter.tryAcquire("a", 11_500)).isTrue();
+        assertThat(limiter.tryAcquire("a", 11_500)).isTrue();
+        assertThat(limiter.tryAcquire("a", 11_500)).isFalse();
+        // 두 윈도우 이상 지나면 초기화
+        assertThat(limiter.tryAcquire("a", 13_000)).isTrue();
+    }
+
+    /**
+     * 최대 키 수를 넘으면 가장 오래 사용되지 않은 키부터 제거한다
+     */
+    @Test
+    void testEvictsLeastRecentlyUsedKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 1, 2);
+
+        assertThat(limiter.tryAcquire("a", 10_000)).isTrue();
+        assertThat(limiter.tryAcquire("b", 10_000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10_001)).isFalse(); // a를 최근 사용으로 갱신
+        assertThat(limiter.tryAcquire("c", 10_002)).isTrue(); // b가 제거됨
+
+        assertThat(limiter.getTrackedKeyCount()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("a", 10_003)).isFalse(); // a는 남아 있어 여전히 거부
+        assertThat(limiter.tryAcquire("b", 10_004)).isTrue(); // b는 새 키로 다시 시작
+    }
+
+    /**
+     * 여러 스레드가 같은 키로 동시에 요청해도 정확히 한도만큼만 허용한다
+     */
+    @Test
+    void testConcurrentAcquireNeverExceedsLimit() throws InterruptedException {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, 60_000, 8, 1000);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire("shared", 60_000)) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(100);
+        assertThat(limiter.getRejectedCount()).isEqualTo(700);
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThatThrownBy(() -> new SlidingWindowRateLimiter(0, WINDOW, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
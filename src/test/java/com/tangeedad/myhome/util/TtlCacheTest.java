@@ -0,0 +1,185 @@
+package com.tangeedad.myhome.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TtlCache 단위 테스트 클래스
+ * 동시 미스 합치기, TTL 만료, 크기 제한, 실패한 로드와 무효화된 로딩 중 항목을 캐시하지 않는지 확인합니다.
+ */
+class TtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    /**
+     * 같은 키의 동시 미스는 로더를 한 번만 호출한다
+     */
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        TtlCache<String, String> cache = new TtlCache<>(60_000, 100, now::get);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("k", key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "v";
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> cache.get("k", key -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        }
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    /**
+     * TTL이 지나면 다시 로드한다
+     */
+    @Test
+    void testReloadsAfterTtl() {
+        TtlCache<String, Integer> cache = new TtlCache<>(100, 10, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", key -> loads.incrementAndGet())).isEqualTo(1);
+        now.addAndGet(99);
+        assertThat(cache.get("k", key -> loads.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.getIfPresent("k")).isEqualTo(1);
+        now.addAndGet(1);
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.get("k", key -> loads.incrementAndGet())).isEqualTo(2);
+    }
+
+    /**
+     * 최대 크기를 넘으면 가장 먼저 만료될 항목부터 제거한다
+     */
+    @Test
+    void testEvictsOldestWhenFull() {
+        TtlCache<Integer, Integer> cache = new TtlCache<>(60_000, 3, now::get);
+        for (int i = 0; i < 5; i++) {
+            now.incrementAndGet();
+            cache.get(i, key -> key);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getIfPresent(0)).isNull();
+        assertThat(cache.getIfPresent(1)).isNull();
+        assertThat(cache.getIfPresent(4)).isEqualTo(4);
+    }
+
+    /**
+     * 만료된 항목은 크기에 여유가 있어도 다음 미스 때 치운다
+     */
+    @Test
+    void testExpiredEntriesAreSweptOnMiss() {
+        TtlCache<Integer, Integer> cache = new TtlCache<>(100, 1000, now::get);
+        for (int i = 0; i < 10; i++) {
+            cache.get(i, key -> key);
+        }
+        now.addAndGet(100);
+        cache.get(100, key -> key);
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    /**
+     * 무효화 후 다시 로드한 항목은 이전 항목의 만료 순서에 휩쓸려 제거되지 않는다
+     */
+    @Test
+    void testReloadedEntryKeepsItsOwnExpiry() {
+        TtlCache<String, Integer> cache = new TtlCache<>(100, 10, now::get);
+        cache.get("a", key -> 1);
+        now.addAndGet(50);
+        cache.invalidate("a");
+        cache.get("a", key -> 2);
+        now.addAndGet(60); // 첫 항목은 만료, 두 번째 항목은 아직 유효
+        cache.get("b", key -> 3);
+
+        assertThat(cache.getIfPresent("a")).isEqualTo(2);
+    }
+
+    /**
+     * null 결과와 예외는 캐시하지 않는다
+     */
+    @Test
+    void testNullAndFailuresAreNotCached() {
+        TtlCache<String, String> cache = new TtlCache<>(60_000, 10, now::get);
+
+        assertThat(cache.get("k", key -> null)).isNull();
+        assertThatThrownBy(() -> cache.get("k", key -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("k", key -> "v")).isEqualTo("v");
+    }
+
+    @Test
+    void testInvalidateIf() {
+        TtlCache<Integer, Integer> cache = new TtlCache<>(60_000, 10, now::get);
+        for (int i = 0; i < 4; i++) {
+            cache.get(i, key -> key * 10);
+        }
+        cache.invalidateIf((key, value) -> value >= 20);
+
+        assertThat(cache.getIfPresent(1)).isEqualTo(10);
+        assertThat(cache.getIfPresent(2)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    /**
+     * 로딩 중인 항목은 조건과 관계없이 제거되어, 무효화 전에 읽었을 수 있는 값이 TTL 동안 남지 않는다
+     */
+    @Test
+    void testInvalidateIfDropsInFlightLoad() throws Exception {
+        TtlCache<String, String> cache = new TtlCache<>(60_000, 10, now::get);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> inFlight = executor.submit(() -> cache.get("k", key -> {
+            loading.countDown();
+            await(release);
+            return "stale";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.invalidateIf((key, value) -> false); // 로딩 중이라 값을 알 수 없음
+        release.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.get("k", key -> "fresh")).isEqualTo("fresh");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}